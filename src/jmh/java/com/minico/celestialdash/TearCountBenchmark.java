@@ -0,0 +1,123 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of {@link TearUtils#countTears} over a full player inventory when Tear
+ * markers are read from a {@code getItemMeta()} copy against a data view.
+ *
+ * <p>The 36 storage slots alternate Celestial Tears and ghast tears renamed by
+ * another plugin, the only items whose markers are read, and the armour and
+ * off-hand slots hold armour and a Tear. The mock server has no Paper data view,
+ * so {@code DATA_VIEW} stands in a view that reads the stack's stored metadata
+ * without copying it, as Paper's does. Run with {@code -prof gc} for the
+ * allocations per count.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TearCountBenchmark {
+
+    private static final int STORAGE_SLOTS = 36;
+    private static final VarHandle STORED_META = storedMeta();
+
+    @Param({"META_COPY", "DATA_VIEW"})
+    public String reader;
+
+    private ItemStack[] contents;
+    private ItemDataView dataView;
+
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchMethodException {
+        MockBukkit.mock();
+        MockBukkit.load(CelestialDash.class);
+        dataView = reader.equals("DATA_VIEW")
+                ? ItemDataView.of(TearCountBenchmark.class.getDeclaredMethod("view", ItemStack.class))
+                : ItemDataView.of(null);
+        if (dataView.usesDataView() != reader.equals("DATA_VIEW")) {
+            throw new IllegalStateException("Could not create the " + reader + " reader");
+        }
+
+        contents = new ItemStack[STORAGE_SLOTS + 5];
+        int expected = 0;
+        for (int slot = 0; slot < STORAGE_SLOTS; slot++) {
+            if (slot % 2 == 0) {
+                contents[slot] = TearUtils.createCelestialTear(64);
+                expected += 64;
+            } else {
+                contents[slot] = namedGhastTear();
+            }
+        }
+        List<Material> armour = List.of(
+                Material.DIAMOND_BOOTS, Material.DIAMOND_LEGGINGS, Material.DIAMOND_CHESTPLATE, Material.DIAMOND_HELMET);
+        for (int piece = 0; piece < armour.size(); piece++) {
+            contents[STORAGE_SLOTS + piece] = new ItemStack(armour.get(piece));
+        }
+        contents[STORAGE_SLOTS + 4] = TearUtils.createCelestialTear(16);
+        expected += 16;
+
+        int counted = TearUtils.countTears(contents, dataView);
+        if (counted != expected) {
+            throw new IllegalStateException("Counted " + counted + " Tears, expected " + expected);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public int countTears() {
+        return TearUtils.countTears(contents, dataView);
+    }
+
+    static PersistentDataContainer view(ItemStack stack) {
+        ItemMeta meta = (ItemMeta) STORED_META.get(stack);
+        return meta == null ? null : meta.getPersistentDataContainer();
+    }
+
+    private static ItemStack namedGhastTear() {
+        ItemStack stack = new ItemStack(Material.GHAST_TEAR, 64);
+        ItemMeta meta = Objects.requireNonNull(stack.getItemMeta());
+        meta.setDisplayName("Trophy Tear");
+        meta.setLore(List.of("Collected from a ghast"));
+        stack.setItemMeta(meta);
+        return stack;
+    }
+
+    private static VarHandle storedMeta() {
+        try {
+            return MethodHandles.privateLookupIn(ItemStack.class, MethodHandles.lookup())
+                    .findVarHandle(ItemStack.class, "meta", ItemMeta.class);
+        } catch (ReflectiveOperationException exception) {
+            throw new ExceptionInInitializerError(exception);
+        }
+    }
+}
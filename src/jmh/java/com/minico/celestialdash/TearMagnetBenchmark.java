@@ -0,0 +1,99 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of one magnet query: the {@link TearEntityIndex} lookup against the
+ * {@code getNearbyEntities} scan it replaced, both returning the Tears within the
+ * default magnet radius of a player.
+ *
+ * <p>{@code spreadTears} Tears are scattered over a 1,024-block square around the
+ * player and {@value #NEARBY_TEARS} more lie within a few blocks of them. Run with
+ * {@code -prof gc} for the allocations per query. The entity scan is the mock
+ * server's, which walks every entity in the world.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TearMagnetBenchmark {
+
+    private static final int NEARBY_TEARS = 20;
+
+    @Param({"200", "2000"})
+    public int spreadTears;
+
+    private TearEntityIndex index;
+    private Location origin;
+    private double radius;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ServerMock server = MockBukkit.mock();
+        CelestialDash plugin = MockBukkit.load(CelestialDash.class);
+        index = plugin.getTearEntities();
+        origin = server.addPlayer().getLocation();
+        radius = plugin.getSettings().tearMagnet().radius();
+
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int tear = 0; tear < spreadTears; tear++) {
+            spawn(origin.clone().add(random.nextDouble(-512.0, 512.0), 0.0, random.nextDouble(-512.0, 512.0)));
+        }
+        for (int tear = 0; tear < NEARBY_TEARS; tear++) {
+            spawn(origin.clone().add(random.nextDouble(-5.0, 5.0), 0.0, random.nextDouble(-5.0, 5.0)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Benchmark
+    public void indexQuery(Blackhole blackhole) {
+        index.forEachNear(origin, radius, blackhole::consume);
+    }
+
+    @Benchmark
+    public void nearbyEntityScan(Blackhole blackhole) {
+        World world = origin.getWorld();
+        double radiusSquared = radius * radius;
+        for (Entity entity : world.getNearbyEntities(origin, radius, radius, radius)) {
+            if (entity instanceof Item item
+                    && TearUtils.isCelestialTear(item.getItemStack())
+                    && item.getLocation().distanceSquared(origin) <= radiusSquared) {
+                blackhole.consume(item);
+            }
+        }
+    }
+
+    private void spawn(Location location) {
+        Item item = location.getWorld().dropItem(location, TearUtils.createCelestialTear());
+        // The mock server may not fire ItemSpawnEvent; tracking twice is harmless.
+        index.track(item);
+    }
+}
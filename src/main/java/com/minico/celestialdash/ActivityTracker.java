@@ -0,0 +1,131 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Remembers when each online player last did something, so storm drops can skip AFK players.
+ *
+ * <p>Each player has one mutable slot holding primitive fields only: the time of
+ * their last activity and the position they had then. Turning the camera,
+ * interacting, switching the held item or running a command counts as activity.
+ * Movement only counts once the player is more than a block away from the position
+ * of their last activity and is not riding anything, so jittering in place or
+ * being carried in a minecart or boat does not keep a player active. The checks
+ * are plain field comparisons on the movement event, with no allocation.</p>
+ */
+final class ActivityTracker implements Listener {
+
+    private static final double MOVE_DISTANCE_SQUARED = 1.0;
+
+    private final Map<UUID, Activity> activities = new HashMap<>();
+
+    void start() {
+        long now = System.currentTimeMillis();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            markActive(player, now);
+        }
+    }
+
+    void stop() {
+        activities.clear();
+    }
+
+    /**
+     * @param thresholdMs idle time after which a player counts as AFK; {@code 0} or less never does
+     * @return whether the player has been idle for at least the threshold
+     */
+    boolean isIdle(Player player, long nowMs, long thresholdMs) {
+        if (thresholdMs <= 0L) {
+            return false;
+        }
+        Activity activity = activities.get(player.getUniqueId());
+        return activity != null && nowMs - activity.lastActiveMs >= thresholdMs;
+    }
+
+    void markActive(Player player, long nowMs) {
+        Activity activity = activities.computeIfAbsent(player.getUniqueId(), ignored -> new Activity());
+        activity.record(player.getLocation(), nowMs);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        markActive(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        activities.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPlayerMove(PlayerMoveEvent event) {
+        Location to = event.getTo();
+        Activity activity = activities.get(event.getPlayer().getUniqueId());
+        if (to == null || activity == null) {
+            return;
+        }
+
+        Location from = event.getFrom();
+        boolean turned = from.getYaw() != to.getYaw() || from.getPitch() != to.getPitch();
+        if (turned || !event.getPlayer().isInsideVehicle() && activity.isAwayFrom(to)) {
+            activity.record(to, System.currentTimeMillis());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        markActive(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPlayerItemHeld(PlayerItemHeldEvent event) {
+        markActive(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPlayerCommand(PlayerCommandPreprocessEvent event) {
+        markActive(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    private static final class Activity {
+        private long lastActiveMs;
+        private double x;
+        private double y;
+        private double z;
+
+        private void record(Location location, long nowMs) {
+            lastActiveMs = nowMs;
+            x = location.getX();
+            y = location.getY();
+            z = location.getZ();
+        }
+
+        private boolean isAwayFrom(Location location) {
+            double dx = location.getX() - x;
+            double dy = location.getY() - y;
+            double dz = location.getZ() - z;
+            return dx * dx + dy * dy + dz * dz > MOVE_DISTANCE_SQUARED;
+        }
+    }
+}
@@ -8,20 +8,13 @@ import org.bukkit.Particle;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.Action;
 import org.bukkit.event.inventory.PrepareItemCraftEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
-import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -31,28 +24,16 @@ public class AmuletHandler implements Listener {
 
     private final CelestialDash plugin;
     private final Messages messages;
-    private final Map<UUID, Long> lastUse = new HashMap<>();
-    private BukkitTask cleanupTask;
+    private final PlayerSlots slots;
+    private final CooldownRegistry.Cooldown lastUse;
 
     public AmuletHandler(CelestialDash plugin, Messages messages) {
         this.plugin = plugin;
         this.messages = messages;
-    }
-
-    /**
-     * Starts periodic cleanup while retaining active cooldowns across reconnects.
-     */
-    public void start() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-        }
-
-        cleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupExpiredCooldowns(System.currentTimeMillis());
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
+        this.slots = plugin.getPlayerSlots();
+        // Active cooldowns are retained across reconnects until the registry expires them.
+        this.lastUse = plugin.getCooldowns().register("amulet-cooldowns",
+                last -> last + plugin.getSettings().amulet().cooldownMs());
     }
 
     @EventHandler
@@ -95,26 +76,23 @@ public class AmuletHandler implements Listener {
         return true;
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    @SuppressWarnings("unused")
+    /**
+     * Handles a right-click with a Celestial Amulet.
+     *
+     * <p>Interaction events reach the Amulet through {@link InteractionDispatcher}. This entry point
+     * applies the same click guards for callers that invoke it directly.</p>
+     */
     public void onUseAmulet(PlayerInteractEvent event) {
-        if (InteractionUtils.isDeniedByAnotherListener(event)) {
-            return;
-        }
-
-        if (event.getHand() != EquipmentSlot.HAND) {
-            return;
-        }
-
-        Action action = event.getAction();
-        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
-            return;
-        }
-
-        if (InteractionUtils.isRightClickOnInteractableBlock(event)) {
+        if (!InteractionUtils.isEligibleRightClick(event)) {
             return;
         }
+        useAmulet(event);
+    }
 
+    /**
+     * Purifies the player for a right-click that already passed the shared click guards.
+     */
+    void useAmulet(PlayerInteractEvent event) {
         ItemStack item = event.getItem();
         if (!CelestialAmulet.isCelestialAmulet(item)) {
             return;
@@ -133,7 +111,8 @@ public class AmuletHandler implements Listener {
 
         long now = System.currentTimeMillis();
         long cooldown = plugin.getSettings().amulet().cooldownMs();
-        long last = lastUse.getOrDefault(player.getUniqueId(), 0L);
+        int slot = slots.acquire(player.getUniqueId());
+        long last = lastUse.get(slot);
         long elapsed = now - last;
         if (elapsed < cooldown) {
             long remaining = (long) Math.ceil((cooldown - elapsed) / 1000.0);
@@ -156,34 +135,30 @@ public class AmuletHandler implements Listener {
             player.sendMessage(messages.formatAmuletUsed(remainingUses));
         }
 
-        lastUse.put(player.getUniqueId(), now);
-        Location location = player.getLocation();
-        player.getWorld().spawnParticle(Particle.END_ROD, location.clone().add(0, 1, 0),
-                24, 0.35, 0.6, 0.35, 0.02);
-        player.getWorld().playSound(location, Sound.BLOCK_BEACON_POWER_SELECT, 0.8f, 1.4f);
+        lastUse.set(slot, now);
+        playPurificationEffects(player);
     }
 
-    public void stop() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
+    private void playPurificationEffects(Player player) {
+        CosmeticGovernor governor = plugin.getCosmeticGovernor();
+        CosmeticGovernor.Tier tier = governor.tier();
+        Location location = player.getLocation();
+        if (tier.showsSharedEffects()) {
+            player.getWorld().spawnParticle(Particle.END_ROD, location.clone().add(0, 1, 0),
+                    governor.scaleCount(24), 0.35, 0.6, 0.35, 0.02);
+            player.getWorld().playSound(location, Sound.BLOCK_BEACON_POWER_SELECT, 0.8f, 1.4f);
+        } else if (tier == CosmeticGovernor.Tier.SELF_ONLY) {
+            player.playSound(location, Sound.BLOCK_BEACON_POWER_SELECT, 0.8f, 1.4f);
         }
-        lastUse.clear();
     }
 
     /**
-     * Removes only cooldowns that have expired. Active cooldowns intentionally
-     * remain after a player reconnects.
-     *
-     * @param nowMs current time in milliseconds
+     * @return time the player's Amulet cooldown ends, or 0 when no cooldown is recorded
      */
-    void cleanupExpiredCooldowns(long nowMs) {
-        if (lastUse.isEmpty()) {
-            return;
-        }
-
-        long cooldownMs = plugin.getSettings().amulet().cooldownMs();
-        lastUse.entrySet().removeIf(entry -> nowMs - entry.getValue() >= cooldownMs);
+    long getCooldownReadyAtMs(UUID uuid) {
+        long last = lastUse.get(slots.slotOf(uuid));
+        long cooldown = plugin.getSettings().amulet().cooldownMs();
+        return last == 0L || cooldown <= 0L ? 0L : last + cooldown;
     }
 
     private boolean purify(Player player) {
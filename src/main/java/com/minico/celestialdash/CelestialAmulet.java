@@ -23,7 +23,10 @@ public final class CelestialAmulet {
     private static NamespacedKey instanceKey;
     private static NamespacedKey recipeKey;
     private static int maxUses = 3;
-    private static int customModelData = 0;
+    /**
+     * Fully built Amulet without an instance marker. New Amulets are cloned from it.
+     */
+    private static ItemStack prototype;
 
     private CelestialAmulet() {
     }
@@ -34,14 +37,31 @@ public final class CelestialAmulet {
         instanceKey = new NamespacedKey(plugin, "celestial_amulet_instance");
         recipeKey = new NamespacedKey(plugin, "celestial_amulet_recipe");
         maxUses = configuredMaxUses;
-        customModelData = configuredCustomModelData;
+        prototype = buildPrototype(configuredCustomModelData);
     }
 
-    @SuppressWarnings("deprecation") // Keeps item metadata compatible with the supported server range.
     public static ItemStack create() {
+        if (prototype == null) {
+            return new ItemStack(Material.NAUTILUS_SHELL);
+        }
+
+        ItemStack item = prototype.clone();
+        ItemMeta meta = item.getItemMeta();
+        if (meta == null) {
+            return item;
+        }
+
+        // A distinct marker prevents individually crafted amulets from stacking.
+        meta.getPersistentDataContainer().set(instanceKey, PersistentDataType.STRING, UUID.randomUUID().toString());
+        item.setItemMeta(meta);
+        return item;
+    }
+
+    @SuppressWarnings("deprecation") // Keeps item metadata compatible with the supported server range.
+    private static ItemStack buildPrototype(int customModelData) {
         ItemStack item = new ItemStack(Material.NAUTILUS_SHELL);
         ItemMeta meta = item.getItemMeta();
-        if (meta == null || amuletKey == null) {
+        if (meta == null) {
             return item;
         }
 
@@ -57,24 +77,17 @@ public final class CelestialAmulet {
         PersistentDataContainer data = meta.getPersistentDataContainer();
         data.set(amuletKey, PersistentDataType.BYTE, (byte) 1);
         data.set(usesKey, PersistentDataType.INTEGER, maxUses);
-        // A distinct marker prevents individually crafted amulets from stacking.
-        data.set(instanceKey, PersistentDataType.STRING, UUID.randomUUID().toString());
 
         item.setItemMeta(meta);
         return item;
     }
 
     public static boolean isCelestialAmulet(ItemStack item) {
-        if (item == null || item.getType() != Material.NAUTILUS_SHELL || !item.hasItemMeta() || amuletKey == null) {
-            return false;
-        }
-
-        ItemMeta meta = item.getItemMeta();
-        if (meta == null) {
+        if (item == null || item.getType() != Material.NAUTILUS_SHELL || amuletKey == null) {
             return false;
         }
 
-        Byte marker = meta.getPersistentDataContainer().get(amuletKey, PersistentDataType.BYTE);
+        Byte marker = ItemDataView.get(item, amuletKey, PersistentDataType.BYTE);
         return marker != null && marker == (byte) 1;
     }
 
@@ -82,7 +95,7 @@ public final class CelestialAmulet {
         if (!isCelestialAmulet(item)) {
             return 0;
         }
-        Integer uses = item.getItemMeta().getPersistentDataContainer().get(usesKey, PersistentDataType.INTEGER);
+        Integer uses = ItemDataView.get(item, usesKey, PersistentDataType.INTEGER);
         return uses == null ? 0 : Math.max(uses, 0);
     }
 
@@ -8,6 +8,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -17,6 +18,9 @@ import java.util.Map;
  *   /celestialdash give <player> <amount>
  *   /celestialdash chronicle give <player>
  *   /celestialdash pack send <player>
+ *   /celestialdash quality
+ *   /celestialdash tears purge
+ *   /celestialdash metrics
  *   /celestialdash reload
  */
 public class CelestialCommand implements CommandExecutor {
@@ -64,6 +68,8 @@ public class CelestialCommand implements CommandExecutor {
         if (args.length == 1 && args[0].equalsIgnoreCase("reload")) {
             plugin.reloadConfig();
             plugin.loadSettings();
+            plugin.getDropHandler().reload();
+            plugin.getTearMagnet().start();
             TearUtils.initialize(plugin, plugin.getSettings().tearCustomModelData());
             plugin.refreshAmuletRecipe();
             messages.reload();
@@ -71,6 +77,39 @@ public class CelestialCommand implements CommandExecutor {
             return true;
         }
 
+        // /celestialdash quality
+        if (args.length == 1 && args[0].equalsIgnoreCase("quality")) {
+            CosmeticGovernor governor = plugin.getCosmeticGovernor();
+            double averageTickMs = governor.windowAverageMs();
+            String formattedTickMs = Double.isFinite(averageTickMs)
+                    ? String.format(Locale.ROOT, "%.1f", averageTickMs)
+                    : "-";
+            sender.sendMessage(messages.formatCosmeticQuality(governor.tier().displayName(), formattedTickMs));
+            return true;
+        }
+
+        // /celestialdash metrics
+        if (args.length == 1 && args[0].equalsIgnoreCase("metrics")) {
+            sender.sendMessage(messages.getMetricsHeaderMessage());
+            Map<String, String> metrics = plugin.getDropMetrics().snapshot();
+            plugin.getDropHandler().appendMetrics(metrics);
+            plugin.getCooldowns().appendMetrics(metrics);
+            plugin.getGroundTears().appendMetrics(metrics);
+            if (plugin.getPlayerProfiles() != null) {
+                plugin.getPlayerProfiles().appendMetrics(metrics);
+            }
+            for (Map.Entry<String, String> metric : metrics.entrySet()) {
+                sender.sendMessage(messages.formatMetric(metric.getKey(), metric.getValue()));
+            }
+            return true;
+        }
+
+        // /celestialdash tears purge
+        if (args.length == 2 && args[0].equalsIgnoreCase("tears") && args[1].equalsIgnoreCase("purge")) {
+            sender.sendMessage(messages.formatTearsPurged(plugin.getGroundTears().purge()));
+            return true;
+        }
+
         // /celestialdash pack send <player>
         if (args.length == 3 && args[0].equalsIgnoreCase("pack") && args[1].equalsIgnoreCase("send")) {
             Player target = Bukkit.getPlayer(args[2]);
@@ -125,9 +164,12 @@ public class CelestialCommand implements CommandExecutor {
             }
 
             Map<Integer, ItemStack> leftovers = target.getInventory().addItem(TearUtils.createCelestialTear(amount));
+            int delivered = amount;
             for (ItemStack leftover : leftovers.values()) {
-                target.getWorld().dropItemNaturally(target.getLocation(), leftover);
+                delivered -= leftover.getAmount();
+                plugin.getGroundTears().drop(target, target.getLocation(), leftover);
             }
+            plugin.getTearCounter().adjust(target, delivered);
 
             sender.sendMessage(messages.formatGiveSuccess(target.getName(), amount));
             if (!leftovers.isEmpty()) {
@@ -142,6 +184,9 @@ public class CelestialCommand implements CommandExecutor {
         sender.sendMessage(messages.formatUsageGive(label));
         sender.sendMessage(messages.formatUsageChronicleGive(label));
         sender.sendMessage(messages.formatUsagePackSend(label));
+        sender.sendMessage(messages.formatUsageQuality(label));
+        sender.sendMessage(messages.formatUsageTearsPurge(label));
+        sender.sendMessage(messages.formatUsageMetrics(label));
         return true;
     }
 }
@@ -9,6 +9,10 @@ import org.bukkit.inventory.RecipeChoice;
 import org.bukkit.inventory.ShapedRecipe;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+
 public class CelestialDash extends JavaPlugin {
 
     private PluginSettings settings = PluginSettings.defaults();
@@ -19,6 +23,21 @@ public class CelestialDash extends JavaPlugin {
     private AmuletHandler amuletHandler;
     private ResourcePackHandler resourcePackHandler;
     private ChronicleHandler chronicleHandler;
+    private CosmeticGovernor cosmeticGovernor;
+    private TearCounter tearCounter;
+    private PlayerSnapshots playerSnapshots;
+    private GroundTearTracker groundTears;
+    private VirtualTears virtualTears;
+    private TearEntityIndex tearEntities;
+    private TearMagnet tearMagnet;
+    private ActivityTracker activityTracker;
+    private InventoryDeliveries inventoryDeliveries;
+    private SafeDropPlacer safeDropPlacer;
+    private PlayerSlots playerSlots;
+    private CooldownRegistry cooldowns;
+    private CooldownJournal cooldownJournal;
+    private PlayerProfiles playerProfiles;
+    private final DropMetrics dropMetrics = new DropMetrics();
 
     @Override
     public void onEnable() {
@@ -31,12 +50,37 @@ public class CelestialDash extends JavaPlugin {
         messages = new Messages(this);
         messages.reload();
 
+        cosmeticGovernor = CosmeticGovernor.create(this);
+        // Handlers register their cooldowns, and with them their per-player columns, when they are created.
+        playerSlots = new PlayerSlots();
+        cooldowns = new CooldownRegistry(this, playerSlots);
+        tearCounter = new TearCounter(this);
+        playerSnapshots = new PlayerSnapshots(this);
+        groundTears = new GroundTearTracker(this);
+        virtualTears = new VirtualTears(this);
+        tearEntities = new TearEntityIndex();
+        tearMagnet = new TearMagnet(this, tearEntities);
+        activityTracker = new ActivityTracker();
+        inventoryDeliveries = new InventoryDeliveries(this);
+        safeDropPlacer = new SafeDropPlacer(this);
         dashHandler = new DashHandler(this, messages);
         dropHandler = new DropHandler(this);
         amuletHandler = new AmuletHandler(this, messages);
         resourcePackHandler = new ResourcePackHandler(this);
         chronicleHandler = new ChronicleHandler(this);
 
+        openPlayerProfiles();
+        Bukkit.getPluginManager().registerEvents(playerSlots, this);
+        Bukkit.getPluginManager().registerEvents(cooldowns, this);
+        Bukkit.getPluginManager().registerEvents(tearCounter, this);
+        Bukkit.getPluginManager().registerEvents(playerSnapshots, this);
+        Bukkit.getPluginManager().registerEvents(groundTears, this);
+        Bukkit.getPluginManager().registerEvents(virtualTears, this);
+        Bukkit.getPluginManager().registerEvents(tearEntities, this);
+        tearEntities.registerRemovalListener(this);
+        Bukkit.getPluginManager().registerEvents(activityTracker, this);
+        Bukkit.getPluginManager().registerEvents(inventoryDeliveries, this);
+        Bukkit.getPluginManager().registerEvents(new InteractionDispatcher(dashHandler, amuletHandler), this);
         Bukkit.getPluginManager().registerEvents(dashHandler, this);
         Bukkit.getPluginManager().registerEvents(dropHandler, this);
         Bukkit.getPluginManager().registerEvents(amuletHandler, this);
@@ -57,9 +101,21 @@ public class CelestialDash extends JavaPlugin {
             getLogger().info("PlaceholderAPI hook enabled.");
         }
 
+        openCooldownJournal();
+        playerSlots.start();
+        if (playerProfiles != null) {
+            playerProfiles.start(this, settings.storage().flushIntervalMs(),
+                    (playerId, values) -> cooldowns.copyRunning(playerId, values, System.currentTimeMillis()));
+        }
+        cooldowns.start();
+        activityTracker.start();
         dropHandler.start();
-        amuletHandler.start();
-        chronicleHandler.start();
+        cosmeticGovernor.start(this);
+        tearCounter.start();
+        TearUtils.attachCounter(tearCounter);
+        playerSnapshots.start();
+        tearEntities.start();
+        tearMagnet.start();
         getLogger().info("CelestialDash enabled.");
     }
 
@@ -68,17 +124,54 @@ public class CelestialDash extends JavaPlugin {
         if (dropHandler != null) {
             dropHandler.stop();
         }
+        if (inventoryDeliveries != null) {
+            inventoryDeliveries.stop();
+        }
+        if (groundTears != null) {
+            groundTears.stop();
+        }
+        if (virtualTears != null) {
+            virtualTears.stop();
+        }
+        if (tearMagnet != null) {
+            tearMagnet.stop();
+        }
+        if (activityTracker != null) {
+            activityTracker.stop();
+        }
+        if (tearEntities != null) {
+            tearEntities.stop();
+        }
         if (dashHandler != null) {
             dashHandler.stop();
         }
-        if (amuletHandler != null) {
-            amuletHandler.stop();
-        }
         if (resourcePackHandler != null) {
             resourcePackHandler.stop();
         }
-        if (chronicleHandler != null) {
-            chronicleHandler.stop();
+        if (cosmeticGovernor != null) {
+            cosmeticGovernor.stop();
+        }
+        if (playerSnapshots != null) {
+            playerSnapshots.stop();
+        }
+        if (tearCounter != null) {
+            TearUtils.attachCounter(null);
+            tearCounter.stop();
+        }
+        if (cooldowns != null) {
+            cooldowns.stop();
+        }
+        if (cooldownJournal != null) {
+            cooldownJournal.stop();
+            cooldownJournal = null;
+        }
+        // After the cooldowns were written into the profiles.
+        if (playerProfiles != null) {
+            playerProfiles.stop();
+            playerProfiles = null;
+        }
+        if (playerSlots != null) {
+            playerSlots.stop();
         }
         getLogger().info("CelestialDash disabled.");
     }
@@ -98,6 +191,49 @@ public class CelestialDash extends JavaPlugin {
         CelestialAmulet.initialize(this, amulet.uses(), amulet.customModelData());
     }
 
+    private void openPlayerProfiles() {
+        PluginSettings.StorageBackend backend = settings.storage().backend();
+        PlayerStore store;
+        switch (backend) {
+            case MEMORY -> store = new MemoryPlayerStore();
+            case SQLITE -> {
+                try {
+                    Files.createDirectories(getDataFolder().toPath());
+                    store = SqlitePlayerStore.open(getDataFolder().toPath().resolve("players.db"));
+                } catch (IOException exception) {
+                    getLogger().warning("Could not open players.db, keeping player state in persistent data: "
+                            + exception.getMessage());
+                    return;
+                }
+            }
+            default -> {
+                return;
+            }
+        }
+        playerProfiles = new PlayerProfiles(store, getLogger());
+        Bukkit.getPluginManager().registerEvents(playerProfiles, this);
+    }
+
+    private void openCooldownJournal() {
+        PluginSettings.CooldownJournalSettings journalSettings = settings.cooldownJournal();
+        if (!journalSettings.enabled()) {
+            return;
+        }
+
+        CooldownJournal journal = new CooldownJournal(getDataFolder().toPath(), getLogger());
+        List<CooldownJournal.Entry> entries;
+        try {
+            entries = journal.open();
+        } catch (IOException exception) {
+            getLogger().warning("Could not open the cooldown journal, cooldowns will not survive a crash: "
+                    + exception.getMessage());
+            return;
+        }
+        cooldowns.attachJournal(journal, entries, System.currentTimeMillis());
+        journal.start(journalSettings.flushIntervalMs());
+        cooldownJournal = journal;
+    }
+
     private void registerAmuletRecipe() {
         if (CelestialAmulet.getRecipeKey() == null) {
             return;
@@ -140,6 +276,65 @@ public class CelestialDash extends JavaPlugin {
         return chronicleHandler;
     }
 
+    CosmeticGovernor getCosmeticGovernor() {
+        return cosmeticGovernor;
+    }
+
+    TearCounter getTearCounter() {
+        return tearCounter;
+    }
+
+    PlayerSnapshots getPlayerSnapshots() {
+        return playerSnapshots;
+    }
+
+    GroundTearTracker getGroundTears() {
+        return groundTears;
+    }
+
+    VirtualTears getVirtualTears() {
+        return virtualTears;
+    }
+
+    TearEntityIndex getTearEntities() {
+        return tearEntities;
+    }
+
+    TearMagnet getTearMagnet() {
+        return tearMagnet;
+    }
+
+    ActivityTracker getActivityTracker() {
+        return activityTracker;
+    }
+
+    DropMetrics getDropMetrics() {
+        return dropMetrics;
+    }
+
+    InventoryDeliveries getInventoryDeliveries() {
+        return inventoryDeliveries;
+    }
+
+    SafeDropPlacer getSafeDropPlacer() {
+        return safeDropPlacer;
+    }
+
+    PlayerSlots getPlayerSlots() {
+        return playerSlots;
+    }
+
+    /**
+     * @return the player profiles, or {@code null} when {@code storage.backend} is {@code PDC}
+     */
+    PlayerProfiles getPlayerProfiles() {
+        return playerProfiles;
+    }
+
+    CooldownRegistry getCooldowns() {
+        return cooldowns;
+    }
+
     public PluginSettings getSettings() {
         return settings;
     }
@@ -4,45 +4,35 @@ import me.clip.placeholderapi.expansion.PlaceholderExpansion;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
-import java.util.UUID;
-import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
 import java.util.function.LongSupplier;
 
 /**
  * PlaceholderAPI expansion for CelestialDash.
  * Provides:
- *   %celestialdash_tears%        -> total Celestial Tears in player's inventory
+ *   %celestialdash_tears%        -> total Celestial Tears in player's inventory, kept by {@link TearCounter}
  *   %celestialdash_cooldown%    -> remaining dash cooldown in seconds
  *   %celestialdash_double_ready% -> whether player is inside the double-dash combo window
+ *   %celestialdash_amulet_cooldown% -> remaining Amulet cooldown in seconds
+ *   %celestialdash_cosmetic_quality% -> current cosmetic quality tier
+ *
+ * Player values are read from {@link PlayerSnapshots}, so requests from asynchronous
+ * scoreboard threads never touch inventories or main-thread maps.
  */
 public class CelestialPlaceholders extends PlaceholderExpansion {
 
-    /**
-     * Scoreboards and tab lists can resolve the same placeholder many times per second.
-     * A short cache avoids repeated full-inventory scans without making inventory changes
-     * visibly stale.
-     */
-    private static final long TEAR_CACHE_TTL_NANOS = TimeUnit.MILLISECONDS.toNanos(250L);
-    private static final long TEAR_CACHE_CLEANUP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5L);
-
     // Main plugin reference (used to access DashHandler and version info)
     private final CelestialDash plugin;
-    private final LongSupplier nanoTime;
-    private final long tearCacheTtlNanos;
-    private final IntSupplier maxTearCacheEntries;
 
     /**
-     * Access-order map gives the bounded cache an LRU eviction policy. It stores UUIDs,
-     * never Player objects, so it cannot keep disconnected player instances alive.
+     * Scoreboards and tab lists resolve the same placeholder many times per second, so the
+     * formatted total is reused while the published count is unchanged. Bounded by
+     * placeholder-tear-cache-max-entries. It stores UUID bits, never Player objects, so it
+     * cannot keep disconnected player instances alive.
      */
-    private final Map<UUID, CachedTearCount> tearCountCache;
-    private long lastTearCacheCleanupNanos = Long.MIN_VALUE;
+    private final TearCountCache tearCountCache;
 
     /**
      * Main constructor.
@@ -50,40 +40,25 @@ public class CelestialPlaceholders extends PlaceholderExpansion {
      * @param plugin CelestialDash instance
      */
     public CelestialPlaceholders(CelestialDash plugin) {
-        this(plugin, System::nanoTime, TEAR_CACHE_TTL_NANOS,
-                () -> plugin.getSettings().placeholders().tearCacheMaxEntries());
+        this(plugin, System::nanoTime, () -> plugin.getSettings().placeholders().tearCacheMaxEntries());
     }
 
     /**
      * Package-private constructor with a controllable clock and size limit for focused tests.
      */
-    CelestialPlaceholders(
-            CelestialDash plugin,
-            LongSupplier nanoTime,
-            @SuppressWarnings("SameParameterValue") long tearCacheTtlNanos,
-            int maxTearCacheEntries
-    ) {
-        this(plugin, nanoTime, tearCacheTtlNanos, () -> maxTearCacheEntries);
+    CelestialPlaceholders(CelestialDash plugin, LongSupplier nanoTime, int maxTearCacheEntries) {
+        this(plugin, nanoTime, () -> maxTearCacheEntries);
     }
 
-    private CelestialPlaceholders(
-            CelestialDash plugin,
-            LongSupplier nanoTime,
-            long tearCacheTtlNanos,
-            IntSupplier maxTearCacheEntries
-    ) {
+    private CelestialPlaceholders(CelestialDash plugin, LongSupplier nanoTime, IntSupplier maxTearCacheEntries) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
-        this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime");
-        this.maxTearCacheEntries = Objects.requireNonNull(maxTearCacheEntries, "maxTearCacheEntries");
-        if (tearCacheTtlNanos <= 0L) {
-            throw new IllegalArgumentException("tearCacheTtlNanos must be positive");
-        }
+        Objects.requireNonNull(nanoTime, "nanoTime");
+        Objects.requireNonNull(maxTearCacheEntries, "maxTearCacheEntries");
         if (maxTearCacheEntries.getAsInt() <= 0) {
             throw new IllegalArgumentException("maxTearCacheEntries must be positive");
         }
 
-        this.tearCacheTtlNanos = tearCacheTtlNanos;
-        this.tearCountCache = new LinkedHashMap<>(Math.min(maxTearCacheEntries.getAsInt(), 16), 0.75f, true);
+        this.tearCountCache = new TearCountCache(nanoTime, maxTearCacheEntries);
     }
 
     /**
@@ -132,11 +107,16 @@ public class CelestialPlaceholders extends PlaceholderExpansion {
      * Handles placeholder resolution.
      *
      * @param player player requesting the placeholder (may be null in some PAPI contexts)
-     * @param params placeholder argument (e.g. "tears", "cooldown", "double_ready")
+     * @param params placeholder argument (e.g. "tears", "cooldown", "double_ready", "amulet_cooldown")
      * @return resolved value or empty string if unsupported
      */
     @Override
     public String onPlaceholderRequest(Player player, @NotNull String params) {
+        if (params.equalsIgnoreCase("cosmetic_quality")) {
+            // Server-wide value, so it resolves without a player context.
+            return plugin.getCosmeticGovernor().tier().displayName();
+        }
+
         if (player == null) {
             // PAPI may call this without a player context; return empty to avoid NPEs.
             return "";
@@ -145,16 +125,24 @@ public class CelestialPlaceholders extends PlaceholderExpansion {
         // Normalize to lower-case for case-insensitive matching.
         String key = params.toLowerCase(Locale.ROOT);
 
+        // Published by the main thread; absent only for a player who is no longer online.
+        PlayerSnapshots.PlayerSnapshot snapshot = plugin.getPlayerSnapshots().get(player.getUniqueId());
+        long nowMs = System.currentTimeMillis();
+
         // Modern switch expression for clarity and extensibility.
         return switch (key) {
-            case "tears" -> getCachedTearCount(player);
+            case "tears" -> tearCountCache.get(player.getUniqueId(), snapshot == null ? 0 : snapshot.tears());
 
             case "cooldown" -> String.valueOf(
-                    plugin.getDashHandler().getRemainingCooldownSeconds(player)
+                    snapshot == null ? 0L : snapshot.remainingDashCooldownSeconds(nowMs)
             );
 
             case "double_ready" -> String.valueOf(
-                    plugin.getDashHandler().isInDoubleDashWindow(player)
+                    snapshot != null && snapshot.isInDoubleDashWindow(nowMs)
+            );
+
+            case "amulet_cooldown" -> String.valueOf(
+                    snapshot == null ? 0L : snapshot.remainingAmuletCooldownSeconds(nowMs)
             );
 
             // Unknown placeholder -> return empty string (safe default).
@@ -162,66 +150,7 @@ public class CelestialPlaceholders extends PlaceholderExpansion {
         };
     }
 
-    private String getCachedTearCount(Player player) {
-        UUID playerId = player.getUniqueId();
-        long now = nanoTime.getAsLong();
-
-        synchronized (tearCountCache) {
-            cleanupExpiredTearCounts(now);
-
-            CachedTearCount cached = tearCountCache.get(playerId);
-            if (cached != null) {
-                if (!isExpired(cached, now)) {
-                    return cached.value();
-                }
-                tearCountCache.remove(playerId);
-            }
-        }
-
-        String count = String.valueOf(TearUtils.countTears(player));
-        long cachedAtNanos = nanoTime.getAsLong();
-
-        synchronized (tearCountCache) {
-            if (tearCountCache.size() >= maxTearCacheEntries.getAsInt()) {
-                removeExpiredTearCounts(cachedAtNanos);
-            }
-            tearCountCache.put(playerId, new CachedTearCount(count, cachedAtNanos));
-            trimTearCacheToMaximumSize();
-        }
-        return count;
-    }
-
-    private boolean isExpired(CachedTearCount entry, long now) {
-        return now - entry.cachedAtNanos() >= tearCacheTtlNanos;
-    }
-
-    private void cleanupExpiredTearCounts(long now) {
-        if (lastTearCacheCleanupNanos != Long.MIN_VALUE
-                && now - lastTearCacheCleanupNanos < TEAR_CACHE_CLEANUP_INTERVAL_NANOS) {
-            return;
-        }
-        removeExpiredTearCounts(now);
-        lastTearCacheCleanupNanos = now;
-    }
-
-    private void removeExpiredTearCounts(long now) {
-        tearCountCache.entrySet().removeIf(entry -> isExpired(entry.getValue(), now));
-    }
-
-    private void trimTearCacheToMaximumSize() {
-        while (tearCountCache.size() > maxTearCacheEntries.getAsInt()) {
-            Iterator<UUID> iterator = tearCountCache.keySet().iterator();
-            iterator.next();
-            iterator.remove();
-        }
-    }
-
     int tearCacheSize() {
-        synchronized (tearCountCache) {
-            return tearCountCache.size();
-        }
-    }
-
-    private record CachedTearCount(String value, long cachedAtNanos) {
+        return tearCountCache.size();
     }
 }
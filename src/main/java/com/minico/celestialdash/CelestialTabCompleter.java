@@ -29,7 +29,7 @@ public class CelestialTabCompleter implements TabCompleter {
         }
 
         if (args.length == 1) {
-            return complete(args[0], List.of("give", "chronicle", "reload", "pack"));
+            return complete(args[0], List.of("give", "chronicle", "reload", "pack", "quality", "tears", "metrics"));
         }
 
         if (args.length == 2 && args[0].equalsIgnoreCase("give")) {
@@ -40,6 +40,10 @@ public class CelestialTabCompleter implements TabCompleter {
             return complete(args[1], List.of("give"));
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("tears")) {
+            return complete(args[1], List.of("purge"));
+        }
+
         if (args.length == 2 && args[0].equalsIgnoreCase("pack")) {
             return complete(args[1], List.of("send"));
         }
@@ -9,12 +9,8 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 
-import java.util.HashMap;
 import java.util.Map;
-import java.util.UUID;
 
 /**
  * Gives each player the v1.1.7 chronicle once, including players who joined
@@ -25,33 +21,16 @@ public final class ChronicleHandler implements Listener {
     private final CelestialDash plugin;
     private final NamespacedKey receivedChronicleKey;
     private final NamespacedKey chronicleKey;
-    private final Map<UUID, Long> lastSelfReissue = new HashMap<>();
-    private BukkitTask cleanupTask;
+    private final PlayerSlots slots;
+    private final CooldownRegistry.Cooldown lastSelfReissue;
 
     ChronicleHandler(CelestialDash plugin) {
         this.plugin = plugin;
         receivedChronicleKey = new NamespacedKey(plugin, "received_1_1_7_chronicle");
         chronicleKey = new NamespacedKey(plugin, "celestial_chronicle");
-    }
-
-    void start() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-        }
-        cleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupExpiredSelfReissueCooldowns(System.currentTimeMillis());
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
-    }
-
-    void stop() {
-        if (cleanupTask != null) {
-            cleanupTask.cancel();
-            cleanupTask = null;
-        }
-        lastSelfReissue.clear();
+        slots = plugin.getPlayerSlots();
+        lastSelfReissue = plugin.getCooldowns().register("chronicle-reissue-cooldowns",
+                last -> last + plugin.getSettings().chronicle().selfReissueCooldownMs());
     }
 
     @EventHandler
@@ -62,15 +41,27 @@ public final class ChronicleHandler implements Listener {
             return;
         }
 
+        // Players marked before a storage backend was configured keep their container marker.
         PersistentDataContainer data = player.getPersistentDataContainer();
-        if (data.has(receivedChronicleKey, PersistentDataType.BYTE)) {
+        PlayerProfiles profiles = plugin.getPlayerProfiles();
+        if (profiles != null && profiles.isUnavailable(player.getUniqueId())) {
+            // Whether the Chronicle was delivered is unknown; try again on the next join.
+            return;
+        }
+        Map<String, Long> profile = profiles == null ? null : profiles.profile(player.getUniqueId());
+        if (data.has(receivedChronicleKey, PersistentDataType.BYTE)
+                || (profile != null && profile.containsKey(receivedChronicleKey.getKey()))) {
             return;
         }
 
         deliverChronicle(player);
 
         // Mark only after the book was given to the inventory or safely dropped as overflow.
-        data.set(receivedChronicleKey, PersistentDataType.BYTE, (byte) 1);
+        if (profile != null) {
+            profile.put(receivedChronicleKey.getKey(), 1L);
+        } else {
+            data.set(receivedChronicleKey, PersistentDataType.BYTE, (byte) 1);
+        }
     }
 
     /**
@@ -97,8 +88,9 @@ public final class ChronicleHandler implements Listener {
     long reissueToSelf(Player player) {
         long now = System.currentTimeMillis();
         long cooldownMs = plugin.getSettings().chronicle().selfReissueCooldownMs();
-        Long lastReissue = lastSelfReissue.get(player.getUniqueId());
-        if (lastReissue != null) {
+        int slot = slots.acquire(player.getUniqueId());
+        long lastReissue = lastSelfReissue.get(slot);
+        if (lastReissue != 0L) {
             long remainingMs = cooldownMs - (now - lastReissue);
             if (remainingMs > 0L) {
                 return (long) Math.ceil(remainingMs / 1_000.0);
@@ -107,24 +99,18 @@ public final class ChronicleHandler implements Listener {
 
         deliverChronicle(player);
         if (cooldownMs > 0L) {
-            lastSelfReissue.put(player.getUniqueId(), now);
+            lastSelfReissue.set(slot, now);
         } else {
-            lastSelfReissue.remove(player.getUniqueId());
+            lastSelfReissue.clear(slot);
         }
         return 0L;
     }
 
     boolean isChronicle(ItemStack item) {
-        if (item == null || item.getType() != org.bukkit.Material.WRITTEN_BOOK || !item.hasItemMeta()) {
+        if (item == null || item.getType() != org.bukkit.Material.WRITTEN_BOOK) {
             return false;
         }
-        return Byte.valueOf((byte) 1).equals(item.getItemMeta().getPersistentDataContainer()
-                .get(chronicleKey, PersistentDataType.BYTE));
-    }
-
-    void cleanupExpiredSelfReissueCooldowns(long nowMs) {
-        long cooldownMs = plugin.getSettings().chronicle().selfReissueCooldownMs();
-        lastSelfReissue.entrySet().removeIf(entry -> nowMs - entry.getValue() >= cooldownMs);
+        return Byte.valueOf((byte) 1).equals(ItemDataView.get(item, chronicleKey, PersistentDataType.BYTE));
     }
 
     private void notifyDelivery(Player player, String locale) {
@@ -0,0 +1,113 @@
+package com.minico.celestialdash;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Groups values by world and chunk so area lookups only visit the chunks they overlap.
+ *
+ * <p>A chunk is identified by its world UUID and its two chunk coordinates packed into
+ * one {@code long}. The index is not thread-safe and is meant to be used from the main
+ * thread.</p>
+ *
+ * @param <T> indexed value type
+ */
+final class ChunkIndex<T> {
+
+    private final Map<UUID, Map<Long, List<T>>> worlds = new HashMap<>();
+    private int size;
+
+    static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFF_FFFFL);
+    }
+
+    static int chunkCoordinate(double blockCoordinate) {
+        return (int) Math.floor(blockCoordinate) >> 4;
+    }
+
+    void add(UUID worldId, long chunkKey, T value) {
+        worlds.computeIfAbsent(worldId, ignored -> new HashMap<>())
+                .computeIfAbsent(chunkKey, ignored -> new ArrayList<>(2))
+                .add(value);
+        size++;
+    }
+
+    boolean remove(UUID worldId, long chunkKey, T value) {
+        Map<Long, List<T>> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return false;
+        }
+        List<T> values = chunks.get(chunkKey);
+        if (values == null || !values.remove(value)) {
+            return false;
+        }
+        size--;
+        if (values.isEmpty()) {
+            chunks.remove(chunkKey);
+            if (chunks.isEmpty()) {
+                worlds.remove(worldId);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the values in one chunk; empty when the chunk holds none. The list must not be modified.
+     */
+    List<T> get(UUID worldId, long chunkKey) {
+        Map<Long, List<T>> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return List.of();
+        }
+        List<T> values = chunks.get(chunkKey);
+        return values == null ? List.of() : values;
+    }
+
+    /**
+     * Visits every value in the chunks overlapping the square of the given half-width
+     * around a block position. Callers apply their own exact distance check.
+     */
+    void forEachNear(UUID worldId, double x, double z, double radius, Consumer<T> action) {
+        Map<Long, List<T>> chunks = worlds.get(worldId);
+        if (chunks == null) {
+            return;
+        }
+        int minChunkX = chunkCoordinate(x - radius);
+        int maxChunkX = chunkCoordinate(x + radius);
+        int minChunkZ = chunkCoordinate(z - radius);
+        int maxChunkZ = chunkCoordinate(z + radius);
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                List<T> values = chunks.get(chunkKey(chunkX, chunkZ));
+                if (values != null) {
+                    // Copied so the action may move values between chunks while iterating.
+                    for (T value : List.copyOf(values)) {
+                        action.accept(value);
+                    }
+                }
+            }
+        }
+    }
+
+    void removeWorld(UUID worldId) {
+        Map<Long, List<T>> chunks = worlds.remove(worldId);
+        if (chunks != null) {
+            for (List<T> values : chunks.values()) {
+                size -= values.size();
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    void clear() {
+        worlds.clear();
+        size = 0;
+    }
+}
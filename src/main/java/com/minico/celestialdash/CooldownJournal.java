@@ -0,0 +1,306 @@
+package com.minico.celestialdash;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Append-only, memory-mapped log of cooldown starts, replayed when the plugin enables.
+ *
+ * <p>The main thread only adds an entry to a lock-free queue. A background thread
+ * writes queued entries as fixed 40-byte records into a mapped file and forces
+ * them to disk every {@code cooldown-journal.flush-interval-ms}, so a crash loses
+ * at most that interval. Each record carries a checksum over its fields and the
+ * file's generation, so replay stops at the first torn, zeroed or stale record.</p>
+ *
+ * <p>Two files are used in turn. When the current one is three quarters full, the
+ * background thread writes only the entries whose deadline has not passed into
+ * the other file with the next generation, and switches to it by writing that
+ * file's header last. Replay reads whichever file has the higher valid
+ * generation, so a crash during compaction falls back to the previous file.</p>
+ */
+final class CooldownJournal {
+
+    private static final int MAGIC = 0x43444A31;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    static final int RECORD_BYTES = 40;
+    private static final int INITIAL_RECORDS = 16_384;
+    private static final String[] FILE_NAMES = {"cooldowns-a.journal", "cooldowns-b.journal"};
+
+    private final Path directory;
+    private final Logger logger;
+    private final Queue<Entry> queue = new ConcurrentLinkedQueue<>();
+    // Latest entry per player and cooldown written to the current file; only used by the writer.
+    private final Map<Key, Entry> live = new HashMap<>();
+    private ScheduledExecutorService writer;
+    private MappedByteBuffer buffer;
+    private int fileIndex;
+    private long generation;
+    private int capacityRecords;
+    private int writtenRecords;
+
+    CooldownJournal(Path directory, Logger logger) {
+        this.directory = directory;
+        this.logger = logger;
+    }
+
+    /**
+     * Opens the newest journal file and returns its entries in write order.
+     */
+    List<Entry> open() throws IOException {
+        Files.createDirectories(directory);
+        int newest = -1;
+        long newestGeneration = 0L;
+        for (int index = 0; index < FILE_NAMES.length; index++) {
+            long fileGeneration = readGeneration(directory.resolve(FILE_NAMES[index]));
+            if (fileGeneration > newestGeneration) {
+                newest = index;
+                newestGeneration = fileGeneration;
+            }
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        if (newest < 0) {
+            fileIndex = 0;
+            generation = 1L;
+            capacityRecords = INITIAL_RECORDS;
+            buffer = map(directory.resolve(FILE_NAMES[0]), capacityRecords);
+            writeHeader(buffer, generation);
+            buffer.force();
+            return entries;
+        }
+
+        fileIndex = newest;
+        generation = newestGeneration;
+        Path file = directory.resolve(FILE_NAMES[newest]);
+        capacityRecords = Math.max(INITIAL_RECORDS, (int) ((Files.size(file) - HEADER_BYTES) / RECORD_BYTES));
+        buffer = map(file, capacityRecords);
+        while (writtenRecords < capacityRecords) {
+            Entry entry = readRecord(buffer, writtenRecords, generation);
+            if (entry == null) {
+                break;
+            }
+            entries.add(entry);
+            live.put(entry.key(), entry);
+            writtenRecords++;
+        }
+        return entries;
+    }
+
+    /**
+     * Starts the background writer.
+     */
+    void start(long flushIntervalMs) {
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CelestialDash Cooldown Journal");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes what is still queued and stops the writer. Only called while the plugin disables.
+     */
+    void stop() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdown();
+        try {
+            if (writer.awaitTermination(5L, TimeUnit.SECONDS)) {
+                flushSafely();
+            } else {
+                logger.warning("The cooldown journal writer did not stop in time; recent cooldowns may be lost.");
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Queues a cooldown start. Safe to call from the main thread; it never waits for I/O.
+     */
+    void append(UUID playerId, int kind, long value, long deadlineMs) {
+        queue.offer(new Entry(playerId, kind, value, deadlineMs));
+    }
+
+    /**
+     * Writes every queued entry and forces it to disk, compacting first when the file is full.
+     */
+    void flush() throws IOException {
+        Entry entry = queue.poll();
+        if (entry == null) {
+            return;
+        }
+        while (entry != null) {
+            if (writtenRecords == capacityRecords) {
+                compact(System.currentTimeMillis());
+            }
+            writeRecord(buffer, writtenRecords++, entry, generation);
+            live.put(entry.key(), entry);
+            entry = queue.poll();
+        }
+        buffer.force();
+        if (writtenRecords >= capacityRecords / 4 * 3) {
+            compact(System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Rewrites the entries that are still running into the other file and switches to it.
+     */
+    void compact(long nowMs) throws IOException {
+        live.values().removeIf(entry -> entry.deadlineMs() <= nowMs);
+        int targetIndex = 1 - fileIndex;
+        long targetGeneration = generation + 1L;
+        int targetCapacity = capacityRecords;
+        while (live.size() > targetCapacity / 2) {
+            targetCapacity *= 2;
+        }
+
+        MappedByteBuffer target = map(directory.resolve(FILE_NAMES[targetIndex]), targetCapacity);
+        int record = 0;
+        for (Entry entry : live.values()) {
+            writeRecord(target, record++, entry, targetGeneration);
+        }
+        target.force();
+        // The header goes last: until it is on disk, replay still reads the previous file.
+        writeHeader(target, targetGeneration);
+        target.force();
+
+        buffer = target;
+        fileIndex = targetIndex;
+        generation = targetGeneration;
+        capacityRecords = targetCapacity;
+        writtenRecords = record;
+    }
+
+    int writtenRecords() {
+        return writtenRecords;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException exception) {
+            logger.log(Level.WARNING, "Could not write the cooldown journal", exception);
+        }
+    }
+
+    private static MappedByteBuffer map(Path file, int capacityRecords) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // The mapping stays valid after the channel is closed.
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0L,
+                    HEADER_BYTES + (long) capacityRecords * RECORD_BYTES);
+        }
+    }
+
+    private static long readGeneration(Path file) throws IOException {
+        if (!Files.isRegularFile(file) || Files.size(file) < HEADER_BYTES) {
+            return 0L;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // Read the whole header.
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt() != MAGIC || header.getInt() != VERSION) {
+                return 0L;
+            }
+            return header.getLong();
+        }
+    }
+
+    private static void writeHeader(ByteBuffer buffer, long generation) {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putLong(8, generation);
+    }
+
+    private static void writeRecord(ByteBuffer buffer, int record, Entry entry, long generation) {
+        int offset = HEADER_BYTES + record * RECORD_BYTES;
+        long most = entry.playerId().getMostSignificantBits();
+        long least = entry.playerId().getLeastSignificantBits();
+        buffer.putLong(offset, most);
+        buffer.putLong(offset + 8, least);
+        buffer.putLong(offset + 16, entry.value());
+        buffer.putLong(offset + 24, entry.deadlineMs());
+        buffer.putInt(offset + 32, entry.kind());
+        buffer.putInt(offset + 36, checksum(most, least, entry.value(), entry.deadlineMs(), entry.kind(), generation));
+    }
+
+    /**
+     * @return the record, or {@code null} if it was never written in this generation
+     */
+    private static Entry readRecord(ByteBuffer buffer, int record, long generation) {
+        int offset = HEADER_BYTES + record * RECORD_BYTES;
+        long most = buffer.getLong(offset);
+        long least = buffer.getLong(offset + 8);
+        long value = buffer.getLong(offset + 16);
+        long deadline = buffer.getLong(offset + 24);
+        int kind = buffer.getInt(offset + 32);
+        if (buffer.getInt(offset + 36) != checksum(most, least, value, deadline, kind, generation)) {
+            return null;
+        }
+        return new Entry(new UUID(most, least), kind, value, deadline);
+    }
+
+    private static int checksum(long most, long least, long value, long deadline, int kind, long generation) {
+        long hash = generation * 0x9E3779B97F4A7C15L;
+        hash = mix(hash, most);
+        hash = mix(hash, least);
+        hash = mix(hash, value);
+        hash = mix(hash, deadline);
+        hash = mix(hash, kind);
+        // Never 0, so a zero-filled record is always rejected.
+        return (int) (hash ^ (hash >>> 32)) | 1;
+    }
+
+    private static long mix(long hash, long field) {
+        long mixed = (hash ^ field) * 0xBF58476D1CE4E5B9L;
+        return mixed ^ (mixed >>> 31);
+    }
+
+    /**
+     * Latest entries of a replay, one per player and cooldown kind.
+     */
+    static Map<Key, Entry> latest(List<Entry> entries) {
+        Map<Key, Entry> latest = new LinkedHashMap<>();
+        for (Entry entry : entries) {
+            latest.put(entry.key(), entry);
+        }
+        return latest;
+    }
+
+    record Key(UUID playerId, int kind) {
+    }
+
+    record Entry(UUID playerId, int kind, long value, long deadlineMs) {
+
+        Key key() {
+            return new Key(playerId, kind);
+        }
+    }
+}
@@ -0,0 +1,449 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Expires every per-player cooldown and window through one hierarchical timing wheel.
+ *
+ * <p>Handlers register a {@link Cooldown} per kind of timestamp they keep. Setting
+ * a value stores it in the player's {@link PlayerSlots} column and files a timer
+ * under the tick its deadline falls in. The wheel has four levels of 64 buckets
+ * each, one server tick per level-0 bucket, so it reaches about nine days ahead;
+ * a timer moves down a level when its bucket comes up and fires from level 0.
+ * Scheduling and expiring a timer are O(1) amortized, and nothing walks the
+ * per-player values. The wheel only runs while a timer is pending.</p>
+ *
+ * <p>A deadline is recomputed from the stored value when its timer fires, so a
+ * reload that lengthens a cooldown cannot expire it early. A timer whose value
+ * was replaced or cleared in the meantime is simply dropped.</p>
+ *
+ * <p>Only online players are held in memory. When a player leaves, each of their
+ * cooldowns that is still running is written to their persistent data container
+ * and cleared here; it is read back and removed from the container when they
+ * join again, so reconnecting cannot bypass a cooldown. The same happens for
+ * online players when the plugin disables and enables. With a {@code storage.backend}
+ * other than {@code PDC}, the player's {@link PlayerProfiles} profile is used instead;
+ * values left in the container by an earlier {@code PDC} setup are still read once, and
+ * the container is used for a player whose profile could not be loaded.</p>
+ *
+ * <p>With {@code cooldown-journal.enabled}, every value that is set is also queued
+ * for the {@link CooldownJournal}, so cooldowns survive a crash. Journal entries
+ * replayed on enable are applied when their player joins, or straight away for
+ * players who are already online, and are forgotten once the last of them would
+ * have expired.</p>
+ */
+final class CooldownRegistry implements Listener {
+
+    private static final long TICK_MS = 50L;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final long WHEEL_MASK = WHEEL_SIZE - 1L;
+    private static final int LEVELS = 4;
+    private static final long MAX_DELTA_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1L;
+
+    private final CelestialDash plugin;
+    private final PlayerSlots slots;
+    private final List<Cooldown> cooldowns = new ArrayList<>();
+    private final Timer[][] wheel = new Timer[LEVELS][WHEEL_SIZE];
+    private long currentTick;
+    private int pending;
+    private long expired;
+    private BukkitTask task;
+    private CooldownJournal journal;
+    // Replayed journal entries of players who have not joined since the plugin enabled.
+    private final Map<UUID, List<CooldownJournal.Entry>> replayed = new HashMap<>();
+
+    CooldownRegistry(CelestialDash plugin, PlayerSlots slots) {
+        this.plugin = plugin;
+        this.slots = slots;
+        currentTick = System.currentTimeMillis() / TICK_MS;
+    }
+
+    /**
+     * Restores the cooldowns of players who are already online, e.g. after a reload.
+     */
+    void start() {
+        long now = System.currentTimeMillis();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            restore(player, now);
+        }
+    }
+
+    void stop() {
+        long now = System.currentTimeMillis();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            offload(player, now);
+        }
+        cancelTask();
+        journal = null;
+        replayed.clear();
+        for (Timer[] level : wheel) {
+            Arrays.fill(level, null);
+        }
+        pending = 0;
+        for (Cooldown cooldown : cooldowns) {
+            cooldown.active = 0;
+        }
+    }
+
+    /**
+     * @param name          metric name of the active count
+     * @param deadlineOfValue deadline in milliseconds of a stored value; the value expires once the
+     *                        current time reaches it
+     */
+    Cooldown register(String name, LongUnaryOperator deadlineOfValue) {
+        Cooldown cooldown = new Cooldown(name, new NamespacedKey(plugin, "cooldown." + name),
+                slots.newColumn(), deadlineOfValue);
+        cooldowns.add(cooldown);
+        return cooldown;
+    }
+
+    /**
+     * Journals every value set from now on and keeps the replayed entries that are still running.
+     * Must be called after every cooldown is registered and before {@link #start()}.
+     */
+    void attachJournal(CooldownJournal journal, List<CooldownJournal.Entry> entries, long nowMs) {
+        this.journal = journal;
+        long lastDeadline = nowMs;
+        for (CooldownJournal.Entry entry : CooldownJournal.latest(entries).values()) {
+            Cooldown cooldown = byKind(entry.kind());
+            if (cooldown == null) {
+                continue;
+            }
+            long deadline = cooldown.deadlineOfValue.applyAsLong(entry.value());
+            if (deadline > nowMs) {
+                replayed.computeIfAbsent(entry.playerId(), ignored -> new ArrayList<>()).add(entry);
+                lastDeadline = Math.max(lastDeadline, deadline);
+            }
+        }
+        if (!replayed.isEmpty()) {
+            long delayTicks = (lastDeadline - nowMs) / TICK_MS + 1L;
+            Bukkit.getScheduler().runTaskLater(plugin, replayed::clear, delayTicks);
+        }
+    }
+
+    /**
+     * Expires every timer whose deadline is at or before the given time.
+     */
+    void advance(long nowMs) {
+        long targetTick = nowMs / TICK_MS;
+        while (currentTick < targetTick && pending > 0) {
+            currentTick++;
+            if ((currentTick & WHEEL_MASK) == 0L) {
+                cascade(1);
+            }
+            fire(nowMs);
+        }
+        // With nothing pending the loop stops early and the wheel jumps straight to the present.
+        currentTick = Math.max(currentTick, targetTick);
+        if (pending == 0) {
+            cancelTask();
+        }
+    }
+
+    @EventHandler(priority = EventPriority.LOW)
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        restore(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    // Runs before PlayerSlots releases the slot at MONITOR.
+    @EventHandler(priority = EventPriority.HIGHEST)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        offload(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    /**
+     * Moves the player's running cooldowns into their profile or persistent data and clears them here.
+     */
+    void offload(Player player, long nowMs) {
+        int slot = slots.slotOf(player.getUniqueId());
+        if (slot < 0) {
+            return;
+        }
+        Map<String, Long> profile = profileOf(player);
+        PersistentDataContainer data = player.getPersistentDataContainer();
+        for (Cooldown cooldown : cooldowns) {
+            long value = cooldown.get(slot);
+            boolean running = value != 0L && cooldown.deadlineOfValue.applyAsLong(value) > nowMs;
+            if (profile != null) {
+                if (running) {
+                    profile.put(cooldown.profileKey, value);
+                } else {
+                    profile.remove(cooldown.profileKey);
+                }
+            } else if (running) {
+                data.set(cooldown.key, PersistentDataType.LONG, value);
+            }
+            cooldown.clear(slot);
+        }
+    }
+
+    /**
+     * Adds the player's running cooldowns to a copy of their profile, keeping them here.
+     */
+    void copyRunning(UUID playerId, Map<String, Long> values, long nowMs) {
+        int slot = slots.slotOf(playerId);
+        if (slot < 0) {
+            return;
+        }
+        for (Cooldown cooldown : cooldowns) {
+            long value = cooldown.get(slot);
+            if (value != 0L && cooldown.deadlineOfValue.applyAsLong(value) > nowMs) {
+                values.put(cooldown.profileKey, value);
+            }
+        }
+    }
+
+    /**
+     * Takes the player's cooldowns back from their persistent data and the replayed journal,
+     * keeping those still running.
+     */
+    void restore(Player player, long nowMs) {
+        PersistentDataContainer data = player.getPersistentDataContainer();
+        for (Cooldown cooldown : cooldowns) {
+            Long value = data.get(cooldown.key, PersistentDataType.LONG);
+            if (value == null) {
+                continue;
+            }
+            data.remove(cooldown.key);
+            restoreValue(player, cooldown, value, nowMs);
+        }
+
+        Map<String, Long> profile = profileOf(player);
+        if (profile != null) {
+            for (Cooldown cooldown : cooldowns) {
+                Long value = profile.remove(cooldown.profileKey);
+                if (value != null) {
+                    restoreValue(player, cooldown, value, nowMs);
+                }
+            }
+        }
+
+        List<CooldownJournal.Entry> journaled = replayed.remove(player.getUniqueId());
+        if (journaled != null) {
+            for (CooldownJournal.Entry entry : journaled) {
+                Cooldown cooldown = byKind(entry.kind());
+                if (cooldown != null) {
+                    restoreValue(player, cooldown, entry.value(), nowMs);
+                }
+            }
+        }
+    }
+
+    private void restoreValue(Player player, Cooldown cooldown, long value, long nowMs) {
+        if (value == 0L || cooldown.deadlineOfValue.applyAsLong(value) <= nowMs) {
+            return;
+        }
+        int slot = slots.acquire(player.getUniqueId());
+        // The persistent data and the journal can both hold a value; the later start wins.
+        if (value > cooldown.get(slot)) {
+            cooldown.set(slot, value);
+        }
+    }
+
+    private Map<String, Long> profileOf(Player player) {
+        PlayerProfiles profiles = plugin.getPlayerProfiles();
+        return profiles == null ? null : profiles.profile(player.getUniqueId());
+    }
+
+    private Cooldown byKind(int kind) {
+        for (Cooldown cooldown : cooldowns) {
+            if (cooldown.kind == kind) {
+                return cooldown;
+            }
+        }
+        return null;
+    }
+
+    int pendingTimers() {
+        return pending;
+    }
+
+    void appendMetrics(Map<String, String> metrics) {
+        for (Cooldown cooldown : cooldowns) {
+            metrics.put(cooldown.name, String.valueOf(cooldown.active));
+        }
+        metrics.put("cooldown-timers-pending", String.valueOf(pending));
+        metrics.put("cooldowns-expired", String.valueOf(expired));
+    }
+
+    /**
+     * @param minDelta {@code 0} while cascading, when the current level-0 bucket is still to be
+     *                 processed; otherwise {@code 1}, because it already has been
+     */
+    private void schedule(Timer timer, long minDelta) {
+        long delta = Math.min(Math.max(timer.expiryTick - currentTick, minDelta), MAX_DELTA_TICKS);
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        // A deadline past the wheel's reach is filed at its far end and re-filed from there.
+        long placement = currentTick + delta;
+        int index = (int) ((placement >> (WHEEL_BITS * level)) & WHEEL_MASK);
+        timer.next = wheel[level][index];
+        wheel[level][index] = timer;
+    }
+
+    private void cascade(int level) {
+        int index = (int) ((currentTick >> (WHEEL_BITS * level)) & WHEEL_MASK);
+        if (index == 0 && level + 1 < LEVELS) {
+            cascade(level + 1);
+        }
+        Timer timer = wheel[level][index];
+        wheel[level][index] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            schedule(timer, 0L);
+            timer = next;
+        }
+    }
+
+    private void fire(long nowMs) {
+        int index = (int) (currentTick & WHEEL_MASK);
+        Timer timer = wheel[0][index];
+        wheel[0][index] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            if (timer.expiryTick > currentTick) {
+                schedule(timer, 1L);
+            } else {
+                pending--;
+                timer.cooldown.expire(timer, nowMs);
+            }
+            timer = next;
+        }
+    }
+
+    private void ensureRunning() {
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin,
+                    () -> advance(System.currentTimeMillis()), 1L, 1L);
+        }
+    }
+
+    private void cancelTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private static long tickOf(long deadlineMs) {
+        return Math.floorDiv(deadlineMs + TICK_MS - 1L, TICK_MS);
+    }
+
+    /**
+     * One kind of per-player timestamp, such as the dash cooldown, expired by the shared wheel.
+     */
+    final class Cooldown {
+        private final String name;
+        private final NamespacedKey key;
+        private final String profileKey;
+        // Identifies the cooldown in journal records.
+        private final int kind;
+        private final PlayerSlots.Column values;
+        private final LongUnaryOperator deadlineOfValue;
+        private int active;
+
+        private Cooldown(String name, NamespacedKey key, PlayerSlots.Column values,
+                         LongUnaryOperator deadlineOfValue) {
+            this.name = name;
+            this.key = key;
+            this.profileKey = key.getKey();
+            this.kind = name.hashCode();
+            this.values = values;
+            this.deadlineOfValue = deadlineOfValue;
+        }
+
+        /**
+         * @return the slot's value, or {@code 0} when none is set or it has expired
+         */
+        long get(int slot) {
+            return values.get(slot);
+        }
+
+        void set(int slot, long value) {
+            if (values.get(slot) == 0L) {
+                active++;
+            }
+            values.set(slot, value);
+            long deadline = deadlineOfValue.applyAsLong(value);
+            if (pending == 0) {
+                // The wheel stops while idle, so its tick is stale; with no timers filed it can jump to now.
+                currentTick = System.currentTimeMillis() / TICK_MS;
+            }
+            pending++;
+            schedule(new Timer(this, slot, value, tickOf(deadline)), 1L);
+            ensureRunning();
+            if (journal != null) {
+                journal.append(slots.ownerOf(slot), kind, value, deadline);
+            }
+        }
+
+        void clear(int slot) {
+            if (slot < 0 || values.get(slot) == 0L) {
+                return;
+            }
+            values.clear(slot);
+            active--;
+        }
+
+        /**
+         * @return number of players with a value set
+         */
+        int active() {
+            return active;
+        }
+
+        private void expire(Timer timer, long nowMs) {
+            if (values.get(timer.slot) != timer.value) {
+                // Replaced by a newer value with its own timer, or already cleared.
+                return;
+            }
+            long deadline = deadlineOfValue.applyAsLong(timer.value);
+            if (deadline > nowMs) {
+                timer.expiryTick = tickOf(deadline);
+                pending++;
+                schedule(timer, 1L);
+                return;
+            }
+            expired++;
+            clear(timer.slot);
+        }
+    }
+
+    private static final class Timer {
+        private final Cooldown cooldown;
+        private final int slot;
+        private final long value;
+        private long expiryTick;
+        private Timer next;
+
+        private Timer(Cooldown cooldown, int slot, long value, long expiryTick) {
+            this.cooldown = cooldown;
+            this.slot = slot;
+            this.value = value;
+            this.expiryTick = expiryTick;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Lowers cosmetic quality while the server is struggling to keep up.
+ *
+ * <p>Once per second the governor samples the server's average tick time and
+ * keeps a short window of samples. The quality tier drops as soon as the window
+ * average crosses a tier threshold. It recovers one tier at a time, only after the
+ * average has stayed below that tier's threshold minus the recovery margin for the
+ * configured number of seconds, so the tier does not flap around a threshold.</p>
+ */
+final class CosmeticGovernor {
+
+    private static final int SAMPLE_WINDOW = 5;
+    private static final String AVERAGE_TICK_TIME_METHOD = "getAverageTickTime";
+
+    private final Supplier<PluginSettings.CosmeticGovernorSettings> settings;
+    private final DoubleSupplier averageTickMs;
+    private final double[] samples = new double[SAMPLE_WINDOW];
+    private int sampleCount;
+    private int nextSample;
+    private int recoveryEvaluations;
+    // Read by placeholder threads; written only by the main-thread evaluation.
+    private volatile Tier tier = Tier.FULL;
+    private volatile double windowAverageMs = Double.NaN;
+    private BukkitTask task;
+
+    /**
+     * @param averageTickMs current average tick time in milliseconds, or {@code NaN} when unavailable
+     */
+    CosmeticGovernor(Supplier<PluginSettings.CosmeticGovernorSettings> settings, DoubleSupplier averageTickMs) {
+        this.settings = settings;
+        this.averageTickMs = averageTickMs;
+    }
+
+    static CosmeticGovernor create(CelestialDash plugin) {
+        return new CosmeticGovernor(() -> plugin.getSettings().cosmeticGovernor(), findAverageTickTime());
+    }
+
+    void start(CelestialDash plugin) {
+        if (task != null) {
+            task.cancel();
+        }
+        if (!Double.isFinite(averageTickMs.getAsDouble())) {
+            plugin.getLogger().info("This server does not report its tick time. "
+                    + "Cosmetic effects stay at full quality.");
+            return;
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::evaluate, 20L, 20L);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        reset();
+    }
+
+    Tier tier() {
+        return tier;
+    }
+
+    /**
+     * @return average tick time of the current sample window, or {@code NaN} before the first sample
+     */
+    double windowAverageMs() {
+        return windowAverageMs;
+    }
+
+    /**
+     * Scales a configured particle count for the current tier.
+     */
+    int scaleCount(int count) {
+        if (tier != Tier.REDUCED || count <= 0) {
+            return count;
+        }
+        int percent = settings.get().reducedCountPercent();
+        return Math.max(1, count * percent / 100);
+    }
+
+    void evaluate() {
+        PluginSettings.CosmeticGovernorSettings current = settings.get();
+        if (!current.enabled()) {
+            reset();
+            return;
+        }
+
+        double sample = averageTickMs.getAsDouble();
+        if (!Double.isFinite(sample)) {
+            return;
+        }
+
+        samples[nextSample] = sample;
+        nextSample = (nextSample + 1) % SAMPLE_WINDOW;
+        sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW);
+        double sum = 0.0;
+        for (int index = 0; index < sampleCount; index++) {
+            sum += samples[index];
+        }
+        double average = sum / sampleCount;
+        windowAverageMs = average;
+
+        Tier activeTier = tier;
+        Tier measuredTier = tierFor(current, average);
+        if (measuredTier.ordinal() > activeTier.ordinal()) {
+            tier = measuredTier;
+            recoveryEvaluations = 0;
+            return;
+        }
+        if (activeTier == Tier.FULL) {
+            return;
+        }
+
+        if (average < thresholdFor(current, activeTier) - current.recoveryMarginMs()) {
+            recoveryEvaluations++;
+            if (recoveryEvaluations >= current.recoverySeconds()) {
+                tier = Tier.values()[activeTier.ordinal() - 1];
+                recoveryEvaluations = 0;
+            }
+        } else {
+            recoveryEvaluations = 0;
+        }
+    }
+
+    private void reset() {
+        tier = Tier.FULL;
+        windowAverageMs = Double.NaN;
+        sampleCount = 0;
+        nextSample = 0;
+        recoveryEvaluations = 0;
+    }
+
+    private static Tier tierFor(PluginSettings.CosmeticGovernorSettings settings, double averageMs) {
+        if (averageMs >= settings.offTickMs()) {
+            return Tier.OFF;
+        }
+        if (averageMs >= settings.selfOnlyTickMs()) {
+            return Tier.SELF_ONLY;
+        }
+        if (averageMs >= settings.reducedTickMs()) {
+            return Tier.REDUCED;
+        }
+        return Tier.FULL;
+    }
+
+    private static double thresholdFor(PluginSettings.CosmeticGovernorSettings settings, Tier tier) {
+        return switch (tier) {
+            case FULL -> 0.0;
+            case REDUCED -> settings.reducedTickMs();
+            case SELF_ONLY -> settings.selfOnlyTickMs();
+            case OFF -> settings.offTickMs();
+        };
+    }
+
+    /**
+     * Paper reports the average tick time; Spigot does not. Resolving the method once
+     * keeps the plugin loadable on every supported server.
+     */
+    private static DoubleSupplier findAverageTickTime() {
+        Server server = Bukkit.getServer();
+        try {
+            Method method = Server.class.getMethod(AVERAGE_TICK_TIME_METHOD);
+            // Probe once, so a server that declares but does not implement the method is treated as unsupported.
+            ((Number) method.invoke(server)).doubleValue();
+            return () -> {
+                try {
+                    return ((Number) method.invoke(server)).doubleValue();
+                } catch (ReflectiveOperationException | RuntimeException exception) {
+                    return Double.NaN;
+                }
+            };
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return () -> Double.NaN;
+        }
+    }
+
+    enum Tier {
+        FULL,
+        REDUCED,
+        SELF_ONLY,
+        OFF;
+
+        /**
+         * @return whether effects other players would see, such as impacts and amulet bursts, are shown
+         */
+        boolean showsSharedEffects() {
+            return this == FULL || this == REDUCED;
+        }
+
+        String displayName() {
+            return name().toLowerCase(Locale.ROOT).replace('_', '-');
+        }
+    }
+}
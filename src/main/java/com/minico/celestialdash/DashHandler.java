@@ -2,77 +2,71 @@ package com.minico.celestialdash;
 
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
-import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
-import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
-import org.bukkit.event.block.Action;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
-import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 public class DashHandler implements Listener {
 
     private final CelestialDash plugin;
     private final Messages messages;
+    private final PlayerSlots slots;
 
-    // Last dash time per player (for normal cooldown)
-    private final Map<UUID, Long> lastDash = new HashMap<>();
+    // Last dash time per player slot (for normal cooldown)
+    private final CooldownRegistry.Cooldown lastDash;
     // Window for performing the second dash
-    private final Map<UUID, Long> comboWindowEnd = new HashMap<>();
+    private final CooldownRegistry.Cooldown comboWindowEnd;
     // Fall-damage immunity after second dash
-    private final Map<UUID, Long> fallImmunityUntil = new HashMap<>();
-    // One active particle-trail task per player.
-    private final Map<UUID, BukkitTask> trailTasks = new HashMap<>();
-    private final BukkitTask stateCleanupTask;
+    private final CooldownRegistry.Cooldown fallImmunityUntil;
+    // Broadcast or viewer-culled particle output shared by impacts and trails.
+    private final ParticleEmitter particleEmitter = new ParticleEmitter();
+    // Shared renderer for every active particle trail.
+    private final TrailRenderer trailRenderer;
 
     public DashHandler(CelestialDash plugin, Messages messages) {
         this.plugin = plugin;
         this.messages = messages;
-        this.stateCleanupTask = new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupExpiredState();
-            }
-        }.runTaskTimer(plugin, 20L, 20L);
+        this.slots = plugin.getPlayerSlots();
+        CooldownRegistry cooldowns = plugin.getCooldowns();
+        this.lastDash = cooldowns.register("dash-cooldowns",
+                last -> last + plugin.getSettings().dash().cooldownMs());
+        // Windows and immunity last through their final millisecond.
+        this.comboWindowEnd = cooldowns.register("double-dash-windows", windowEnd -> windowEnd + 1L);
+        this.fallImmunityUntil = cooldowns.register("fall-immunities", until -> until + 1L);
+        this.trailRenderer = new TrailRenderer(plugin, particleEmitter);
+        this.trailRenderer.start();
     }
 
-    @EventHandler(priority = EventPriority.HIGHEST)
-    @SuppressWarnings({"unused", "deprecation"})
+    /**
+     * Handles a right-click with a Celestial Tear.
+     *
+     * <p>Interaction events reach the dash through {@link InteractionDispatcher}. This entry point
+     * applies the same click guards for callers that invoke it directly.</p>
+     */
     public void onPlayerUseTear(PlayerInteractEvent event) {
-        if (InteractionUtils.isDeniedByAnotherListener(event)) {
-            return;
-        }
-
-        if (event.getHand() != EquipmentSlot.HAND) {
-            return;
-        }
-
-        Action action = event.getAction();
-        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
-            return;
-        }
-
-        if (InteractionUtils.isRightClickOnInteractableBlock(event)) {
+        if (!InteractionUtils.isEligibleRightClick(event)) {
             return;
         }
+        useTear(event);
+    }
 
+    /**
+     * Performs the dash for a right-click that already passed the shared click guards.
+     */
+    @SuppressWarnings("deprecation")
+    void useTear(PlayerInteractEvent event) {
         Player player = event.getPlayer();
-        UUID uuid = player.getUniqueId();
 
         // Only allow dashing if the main-hand item IS a Celestial Tear
         ItemStack mainHand = player.getInventory().getItemInMainHand();
@@ -99,26 +93,27 @@ public class DashHandler implements Listener {
         }
 
         long now = System.currentTimeMillis();
+        int slot = slots.acquire(player.getUniqueId());
 
         boolean doubleDashEnabled = dashSettings.doubleDash().enabled();
         boolean isSecondDash = false;
 
         // Check if this click should count as second dash
         if (doubleDashEnabled) {
-            Long windowEnd = comboWindowEnd.get(uuid);
-            if (windowEnd != null) {
+            long windowEnd = comboWindowEnd.get(slot);
+            if (windowEnd != 0L) {
                 if (now <= windowEnd) {
                     isSecondDash = true;
                 } else {
                     // window expired
-                    comboWindowEnd.remove(uuid);
+                    comboWindowEnd.clear(slot);
                 }
             }
         }
 
         // Cooldown only blocks the FIRST dash, never the second
         if (!isSecondDash) {
-            long last = lastDash.getOrDefault(uuid, 0L);
+            long last = lastDash.get(slot);
             long cd = dashSettings.cooldownMs();
             long diff = now - last;
 
@@ -136,8 +131,8 @@ public class DashHandler implements Listener {
 
         // Consume the exact tear that triggered the interaction. Searching the
         // whole inventory here could otherwise spend a different stack first.
-        int slot = player.getInventory().getHeldItemSlot();
-        if (slot == -1) {
+        int heldSlot = player.getInventory().getHeldItemSlot();
+        if (heldSlot == -1) {
             // The held slot is unavailable; do not consume an unrelated stack.
             player.spigot().sendMessage(
                     ChatMessageType.ACTION_BAR,
@@ -148,7 +143,7 @@ public class DashHandler implements Listener {
 
         // Consume the tear before applying its movement effect. A slot changed by
         // another listener must not grant a dash without paying its cost.
-        if (!TearUtils.tryConsumeTear(player, slot)) {
+        if (!TearUtils.tryConsumeTear(player, heldSlot)) {
             player.spigot().sendMessage(
                     ChatMessageType.ACTION_BAR,
                     TextComponent.fromLegacyText(messages.getNoTearsMessage())
@@ -162,28 +157,28 @@ public class DashHandler implements Listener {
         if (isSecondDash) {
             // Second dash: stronger + fall-damage immunity
             performDash(player, true);
-            applyFallImmunity(uuid);
-            comboWindowEnd.remove(uuid);
+            applyFallImmunity(slot);
+            comboWindowEnd.clear(slot);
         } else {
             // First dash: normal dash + open combo window
             performDash(player, false);
 
             if (doubleDashEnabled) {
                 long windowMs = dashSettings.doubleDash().windowMs();
-                comboWindowEnd.put(uuid, now + windowMs);
+                comboWindowEnd.set(slot, now + windowMs);
             }
         }
 
         // Update last dash for cooldown
-        lastDash.put(uuid, now);
+        lastDash.set(slot, now);
     }
 
-    private void applyFallImmunity(UUID uuid) {
+    private void applyFallImmunity(int slot) {
         int ticks = plugin.getSettings().dash().doubleDash().fallImmunityTicks();
         if (ticks <= 0) return;
 
         long durationMs = ticks * 50L;
-        fallImmunityUntil.put(uuid, System.currentTimeMillis() + durationMs);
+        fallImmunityUntil.set(slot, System.currentTimeMillis() + durationMs);
     }
 
     @EventHandler
@@ -192,16 +187,16 @@ public class DashHandler implements Listener {
         if (!(event.getEntity() instanceof Player player)) return;
         if (event.getCause() != EntityDamageEvent.DamageCause.FALL) return;
 
-        UUID uuid = player.getUniqueId();
-        Long until = fallImmunityUntil.get(uuid);
-        if (until == null) return;
+        int slot = slots.slotOf(player.getUniqueId());
+        long until = fallImmunityUntil.get(slot);
+        if (until == 0L) return;
 
         long now = System.currentTimeMillis();
         if (now <= until) {
             event.setCancelled(true);
         }
         // Always clear stored immunity once it's checked
-        fallImmunityUntil.remove(uuid);
+        fallImmunityUntil.clear(slot);
     }
 
     @EventHandler
@@ -209,36 +204,16 @@ public class DashHandler implements Listener {
     public void onPlayerQuit(PlayerQuitEvent event) {
         UUID uuid = event.getPlayer().getUniqueId();
         // Keep the normal dash cooldown across reconnects.
-        comboWindowEnd.remove(uuid);
-        fallImmunityUntil.remove(uuid);
-        cancelTrail(uuid);
+        int slot = slots.slotOf(uuid);
+        comboWindowEnd.clear(slot);
+        fallImmunityUntil.clear(slot);
+        trailRenderer.remove(uuid);
+        particleEmitter.forget(uuid);
     }
 
     public void stop() {
-        stateCleanupTask.cancel();
-        lastDash.clear();
-        comboWindowEnd.clear();
-        fallImmunityUntil.clear();
-        trailTasks.values().forEach(BukkitTask::cancel);
-        trailTasks.clear();
-    }
-
-    private void cleanupExpiredState() {
-        if (lastDash.isEmpty() && comboWindowEnd.isEmpty() && fallImmunityUntil.isEmpty()) {
-            return;
-        }
-
-        long now = System.currentTimeMillis();
-        if (!lastDash.isEmpty()) {
-            long cooldown = plugin.getSettings().dash().cooldownMs();
-            lastDash.entrySet().removeIf(entry -> now - entry.getValue() >= cooldown);
-        }
-        if (!comboWindowEnd.isEmpty()) {
-            comboWindowEnd.entrySet().removeIf(entry -> now > entry.getValue());
-        }
-        if (!fallImmunityUntil.isEmpty()) {
-            fallImmunityUntil.entrySet().removeIf(entry -> now > entry.getValue());
-        }
+        trailRenderer.stop();
+        particleEmitter.clear();
     }
 
     private void performDash(Player player, boolean secondDash) {
@@ -273,32 +248,47 @@ public class DashHandler implements Listener {
             ));
         }
 
+        // Cosmetics follow the current server-load quality tier.
+        CosmeticGovernor governor = plugin.getCosmeticGovernor();
+        CosmeticGovernor.Tier cosmeticTier = governor.tier();
+
         // Impact particle
         PluginSettings.ParticleSettings impactParticle = dashSettings.impactParticle();
-        if (impactParticle.enabled() && impactParticle.count() > 0) {
-            world.spawnParticle(
-                    impactParticle.type(),
+        if (impactParticle.enabled() && impactParticle.count() > 0 && cosmeticTier.showsSharedEffects()) {
+            particleEmitter.emit(
+                    player,
                     dashLocation,
-                    impactParticle.count(),
+                    impactParticle.type(),
+                    governor.scaleCount(impactParticle.count()),
                     impactParticle.offsetX(),
                     impactParticle.offsetY(),
                     impactParticle.offsetZ(),
-                    impactParticle.speed()
+                    impactParticle.speed(),
+                    impactParticle.culling()
             );
         }
 
         // Sound
         PluginSettings.SoundSettings sound = dashSettings.sound();
-        if (sound.enabled()) {
+        if (sound.enabled() && cosmeticTier.showsSharedEffects()) {
             world.playSound(
                     dashLocation,
                     sound.sound(),
                     sound.volume(),
                     sound.pitch()
             );
+        } else if (sound.enabled() && cosmeticTier == CosmeticGovernor.Tier.SELF_ONLY) {
+            player.playSound(
+                    dashLocation,
+                    sound.sound(),
+                    sound.volume(),
+                    sound.pitch()
+            );
         }
 
-        startTrail(player);
+        if (cosmeticTier != CosmeticGovernor.Tier.OFF) {
+            startTrail(player);
+        }
 
         // Different messages for first and second dash
         if (secondDash) {
@@ -316,55 +306,13 @@ public class DashHandler implements Listener {
             return;
         }
 
-        UUID uuid = player.getUniqueId();
-        cancelTrail(uuid);
-
-        BukkitRunnable trail = new BukkitRunnable() {
-            int ticks = 0;
-
-            @Override
-            public void run() {
-                Player currentPlayer = Bukkit.getPlayer(uuid);
-                PluginSettings.TrailSettings activeTrailSettings = plugin.getSettings().dash().trail();
-                if (currentPlayer == null || !currentPlayer.isOnline() || ticks >= activeTrailSettings.durationTicks()) {
-                    cancel();
-                    trailTasks.remove(uuid);
-                    return;
-                }
-
-                if (activeTrailSettings.count() > 0) {
-                    Location back = currentPlayer.getLocation();
-                    back.subtract(back.getDirection().normalize().multiply(0.5));
-
-                    currentPlayer.getWorld().spawnParticle(
-                            activeTrailSettings.particle(),
-                            back,
-                            activeTrailSettings.count(),
-                            activeTrailSettings.offsetX(),
-                            activeTrailSettings.offsetY(),
-                            activeTrailSettings.offsetZ(),
-                            activeTrailSettings.speed()
-                    );
-                }
-
-                ticks += activeTrailSettings.intervalTicks();
-            }
-        };
-        trailTasks.put(uuid, trail.runTaskTimer(plugin, 0L, trailSettings.intervalTicks()));
-    }
-
-    private void cancelTrail(UUID uuid) {
-        BukkitTask trailTask = trailTasks.remove(uuid);
-        if (trailTask != null) {
-            trailTask.cancel();
-        }
+        trailRenderer.add(player);
     }
 
     // ===== Helper methods for placeholders =====
 
     public long getRemainingCooldownSeconds(Player player) {
-        UUID uuid = player.getUniqueId();
-        long last = lastDash.getOrDefault(uuid, 0L);
+        long last = lastDash.get(slots.slotOf(player.getUniqueId()));
         return calculateRemainingCooldownSeconds(last, System.currentTimeMillis(), plugin.getSettings().dash().cooldownMs());
     }
 
@@ -376,16 +324,27 @@ public class DashHandler implements Listener {
         return (long) Math.ceil((cooldownMs - elapsed) / 1000.0);
     }
 
+    /**
+     * Read-only: an expired window is left for the cooldown registry instead of being removed here.
+     */
     public boolean isInDoubleDashWindow(Player player) {
-        UUID uuid = player.getUniqueId();
-        Long windowEnd = comboWindowEnd.get(uuid);
-        if (windowEnd == null) {
-            return false;
-        }
-        if (System.currentTimeMillis() <= windowEnd) {
-            return true;
-        }
-        comboWindowEnd.remove(uuid);
-        return false;
+        long windowEnd = comboWindowEnd.get(slots.slotOf(player.getUniqueId()));
+        return windowEnd != 0L && System.currentTimeMillis() <= windowEnd;
+    }
+
+    /**
+     * @return time the player's dash cooldown ends, or 0 when no cooldown is recorded
+     */
+    long getDashReadyAtMs(UUID uuid) {
+        long last = lastDash.get(slots.slotOf(uuid));
+        long cooldown = plugin.getSettings().dash().cooldownMs();
+        return last == 0L || cooldown <= 0L ? 0L : last + cooldown;
+    }
+
+    /**
+     * @return time the player's double-dash window closes, or 0 when no window is open
+     */
+    long getComboWindowEndMs(UUID uuid) {
+        return comboWindowEnd.get(slots.slotOf(uuid));
     }
 }
@@ -1,106 +1,565 @@
 package com.minico.celestialdash;
 
 import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.World;
+import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+import org.bukkit.event.vehicle.VehicleMoveEvent;
+import org.bukkit.event.weather.LightningStrikeEvent;
+import org.bukkit.event.weather.WeatherChangeEvent;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
 import java.util.UUID;
 
+/**
+ * Awards Celestial Tears to players in storming worlds.
+ *
+ * <p>The handler keeps an index of the worlds that are storming and not
+ * blacklisted, updated from weather changes and world loads and unloads. The
+ * once-per-second drop pass only visits the players of those worlds and is not
+ * scheduled at all while no eligible world is storming.</p>
+ *
+ * <p>In {@link PluginSettings.DropMode#SCHEDULED} mode the pass does not roll the
+ * chance for every player; it only visits players whose drop time, sampled by
+ * {@link DropSchedule}, has arrived. In {@link PluginSettings.DropMode#SHARDED}
+ * mode online players are split into twenty shards by a stable hash of their
+ * UUID and one shard is rolled every tick, so each player is still rolled once
+ * per second but the work is spread evenly across the second.</p>
+ *
+ * <p>In {@link PluginSettings.DropMode#LIGHTNING} mode no pass is scheduled at all.
+ * Each natural lightning strike awards a Tear to the eligible players within the
+ * configured radius, found through a {@link PlayerChunkIndex} so only the players in
+ * the chunks around the strike are looked at.</p>
+ *
+ * <p>Every won drop takes a token from the server-wide {@link TearRateLimiter}. When
+ * none is left, the drop is queued instead of discarded and delivered by a per-tick
+ * task as tokens refill, longest-waiting player first. A queued player is not rolled
+ * again until their drop arrives.</p>
+ */
 public class DropHandler implements Listener {
 
+    private static final int SHARD_COUNT = 20;
+
     private final CelestialDash plugin;
-    private BukkitRunnable task;
+    private BukkitTask task;
+
+    private final PlayerSlots slots;
+    private final CooldownRegistry.Cooldown lastDrop;
+    // Storming, non-blacklisted worlds. Unloaded worlds are removed, so no world is retained.
+    private final Set<World> stormingWorlds = new LinkedHashSet<>();
+
+    private final DropSchedule schedule;
+    // Online players split by a stable hash of their UUID, one shard per tick of a second.
+    private final List<List<Player>> shards = new ArrayList<>(SHARD_COUNT);
+    private int currentShard;
+    // Only maintained in LIGHTNING mode.
+    private final PlayerChunkIndex playerIndex = new PlayerChunkIndex();
 
-    private final Map<UUID, Long> lastDrop = new HashMap<>();
+    private final TearRateLimiter limiter = new TearRateLimiter();
+    private final PriorityQueue<DeferredDrop> deferredQueue = new PriorityQueue<>((first, second) ->
+            Long.compare(first.sinceMs(), second.sinceMs()));
+    // The current deferred drop per player; queue entries that are no longer current are skipped.
+    private final Map<UUID, DeferredDrop> deferred = new HashMap<>();
+    private BukkitTask deferredTask;
 
     public DropHandler(CelestialDash plugin) {
+        this(plugin, new SplittableRandom());
+    }
+
+    /**
+     * Package-private constructor with a seedable drop schedule for focused tests.
+     */
+    DropHandler(CelestialDash plugin, SplittableRandom random) {
         this.plugin = plugin;
+        this.slots = plugin.getPlayerSlots();
+        // Active cooldowns stay across reconnects so leaving the server cannot bypass storm-drop limits.
+        this.lastDrop = plugin.getCooldowns().register("drop-cooldowns",
+                last -> last + plugin.getSettings().drops().cooldownMs());
+        this.schedule = new DropSchedule(random);
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            shards.add(new ArrayList<>());
+        }
     }
 
     public void start() {
-        if (task != null) {
-            task.cancel();
+        reload();
+    }
+
+    public void stop() {
+        cancelDropPass();
+        stormingWorlds.clear();
+        schedule.clear();
+        shards.forEach(List::clear);
+        playerIndex.disable();
+        cancelDeferredDrain();
+        deferredQueue.clear();
+        deferred.clear();
+    }
+
+    /**
+     * Rebuilds the storm index and the drop schedule after the drop settings may have changed.
+     */
+    void reload() {
+        // The pass period depends on the drop mode, so it is rescheduled from scratch.
+        cancelDropPass();
+        schedule.clear();
+        rebuildShards();
+        if (plugin.getSettings().drops().mode() == PluginSettings.DropMode.LIGHTNING) {
+            playerIndex.enable();
+        } else {
+            playerIndex.disable();
+        }
+        long now = System.currentTimeMillis();
+        limiter.configure(plugin.getSettings().drops().rateLimitPerSecond(),
+                plugin.getSettings().drops().rateLimitPerMinute(), now);
+        refreshStormingWorlds();
+        for (World world : stormingWorlds) {
+            armPlayers(world, now);
         }
+    }
 
-        task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                long now = System.currentTimeMillis();
-                PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
-                cleanupExpiredCooldowns(now);
-
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    if (!player.hasPermission("celestialdash.receive")) {
-                        continue;
-                    }
-
-                    World world = player.getWorld();
-
-                    // Skip blacklisted worlds
-                    if (dropSettings.isWorldBlacklisted(world.getName())) {
-                        continue;
-                    }
-
-                    // Only drop during storms in allowed worlds
-                    if (!world.hasStorm()) {
-                        continue;
-                    }
-
-                    UUID uuid = player.getUniqueId();
-                    long last = lastDrop.getOrDefault(uuid, 0L);
-
-                    if (now - last < dropSettings.cooldownMs()) {
-                        continue;
-                    }
-
-                    if (Math.random() < dropSettings.chance()) {
-                        ItemStack tear = TearUtils.createCelestialTear();
-                        if (dropSettings.deliveryMode() == PluginSettings.DropDeliveryMode.INVENTORY) {
-                            Map<Integer, ItemStack> leftovers = player.getInventory().addItem(tear);
-                            for (ItemStack leftover : leftovers.values()) {
-                                world.dropItemNaturally(player.getLocation(), leftover);
-                            }
-                        } else {
-                            world.dropItemNaturally(player.getLocation(), tear);
-                        }
-                        lastDrop.put(uuid, now);
-
-                        // Notify only the player who received the tear
-                        plugin.getMessages().sendTearDropMessage(player);
-                    }
-                }
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        shardOf(player.getUniqueId()).add(player);
+        playerIndex.update(player);
+        armIfEligible(player, System.currentTimeMillis());
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        playerIndex.update(event.getPlayer());
+        armIfEligible(event.getPlayer(), System.currentTimeMillis());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPlayerMove(PlayerMoveEvent event) {
+        if (!playerIndex.isEnabled()) {
+            return;
+        }
+        Location from = event.getFrom();
+        Location to = event.getTo();
+        // Most movement stays inside one chunk; skip it before touching the index.
+        if (to == null || (from.getBlockX() >> 4 == to.getBlockX() >> 4
+                && from.getBlockZ() >> 4 == to.getBlockZ() >> 4
+                && from.getWorld() == to.getWorld())) {
+            return;
+        }
+        playerIndex.update(event.getPlayer(), to);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        playerIndex.update(event.getPlayer(), event.getTo());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        playerIndex.update(event.getPlayer(), event.getRespawnLocation());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onVehicleMove(VehicleMoveEvent event) {
+        // Riding players do not fire movement events of their own.
+        if (!playerIndex.isEnabled()) {
+            return;
+        }
+        for (Entity passenger : event.getVehicle().getPassengers()) {
+            if (passenger instanceof Player player) {
+                playerIndex.update(player, event.getTo());
             }
-        };
+        }
+    }
 
-        // Run every second
-        task.runTaskTimer(plugin, 20L, 20L);
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        // The drop cooldown itself is kept across reconnects.
+        UUID uuid = event.getPlayer().getUniqueId();
+        schedule.remove(uuid);
+        playerIndex.remove(event.getPlayer());
+        // A queued drop is only delivered to an online player.
+        deferred.remove(uuid);
+        shardOf(uuid).removeIf(player -> player.getUniqueId().equals(uuid));
     }
 
-    public void stop() {
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onWeatherChange(WeatherChangeEvent event) {
+        // The event fires before the world changes, so the target state comes from the event.
+        updateStormState(event.getWorld(), event.toWeatherState());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onLightningStrike(LightningStrikeEvent event) {
+        // Trident and command strikes can be produced on demand, so only storms count.
+        if (event.getCause() != LightningStrikeEvent.Cause.WEATHER
+                || plugin.getSettings().drops().mode() != PluginSettings.DropMode.LIGHTNING) {
+            return;
+        }
+        awardLightningStrike(event.getLightning().getLocation());
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onWorldLoad(WorldLoadEvent event) {
+        World world = event.getWorld();
+        updateStormState(world, world.hasStorm());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onWorldUnload(WorldUnloadEvent event) {
+        updateStormState(event.getWorld(), false);
+    }
+
+    /**
+     * Adds or removes a world from the storm index and starts or stops the drop pass to match.
+     */
+    void updateStormState(World world, boolean storming) {
+        if (storming && !plugin.getSettings().drops().isWorldBlacklisted(world.getName())) {
+            if (stormingWorlds.add(world)) {
+                armPlayers(world, System.currentTimeMillis());
+            }
+        } else if (stormingWorlds.remove(world)) {
+            // Disarm the world's players so the next storm draws fresh drop times for them. Players who
+            // already left the world keep their entry, which is discarded when it comes due.
+            for (Player player : world.getPlayers()) {
+                schedule.remove(player.getUniqueId());
+            }
+        }
+        updateDropPass();
+    }
+
+    /**
+     * @return whether the once-per-second drop pass is scheduled
+     */
+    boolean isDropPassScheduled() {
+        return task != null;
+    }
+
+    int stormingWorldCount() {
+        return stormingWorlds.size();
+    }
+
+    int scheduledDropCount() {
+        return schedule.armedCount();
+    }
+
+    int indexedPlayerCount() {
+        return playerIndex.size();
+    }
+
+    int deferredDropCount() {
+        return deferred.size();
+    }
+
+    /**
+     * Adds the live emission limiter state to a metrics listing.
+     */
+    void appendMetrics(Map<String, String> metrics) {
+        long now = System.currentTimeMillis();
+        metrics.put("rate-limit-second-tokens", formatTokens(limiter.secondTokens(now)));
+        metrics.put("rate-limit-minute-tokens", formatTokens(limiter.minuteTokens(now)));
+        metrics.put("deferred-drops-waiting", String.valueOf(deferred.size()));
+        long oldestWaitMs = 0L;
+        for (DeferredDrop drop : deferred.values()) {
+            oldestWaitMs = Math.max(oldestWaitMs, now - drop.sinceMs());
+        }
+        metrics.put("oldest-deferred-wait-ms", String.valueOf(oldestWaitMs));
+    }
+
+    /**
+     * Awards a Tear to every eligible player within the configured radius of a strike.
+     */
+    void awardLightningStrike(Location strike) {
+        World world = strike.getWorld();
+        PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
+        if (world == null || dropSettings.isWorldBlacklisted(world.getName())) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        playerIndex.forEachWithin(strike, dropSettings.lightningRadius(), player -> {
+            if (canReceiveDrop(player, now, dropSettings)) {
+                awardDrop(player, now, dropSettings);
+            }
+        });
+        plugin.getInventoryDeliveries().flush();
+    }
+
+    private void refreshStormingWorlds() {
+        stormingWorlds.clear();
+        for (World world : Bukkit.getWorlds()) {
+            if (world.hasStorm() && !plugin.getSettings().drops().isWorldBlacklisted(world.getName())) {
+                stormingWorlds.add(world);
+            }
+        }
+        updateDropPass();
+    }
+
+    private void updateDropPass() {
+        if (stormingWorlds.isEmpty() || plugin.getSettings().drops().mode() == PluginSettings.DropMode.LIGHTNING) {
+            cancelDropPass();
+        } else if (task == null) {
+            if (plugin.getSettings().drops().mode() == PluginSettings.DropMode.SHARDED) {
+                currentShard = 0;
+                task = Bukkit.getScheduler().runTaskTimer(plugin, this::runDropShard, 1L, 1L);
+            } else {
+                // Run every second
+                task = Bukkit.getScheduler().runTaskTimer(plugin, this::runDropPass, 20L, 20L);
+            }
+        }
+    }
+
+    private void cancelDropPass() {
         if (task != null) {
             task.cancel();
             task = null;
         }
-        lastDrop.clear();
+    }
+
+    private void rebuildShards() {
+        shards.forEach(List::clear);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            shardOf(player.getUniqueId()).add(player);
+        }
+    }
+
+    private List<Player> shardOf(UUID uuid) {
+        return shards.get(Math.floorMod(uuid.hashCode(), SHARD_COUNT));
+    }
+
+    private void armPlayers(World world, long now) {
+        if (plugin.getSettings().drops().mode() != PluginSettings.DropMode.SCHEDULED) {
+            return;
+        }
+        for (Player player : world.getPlayers()) {
+            armIfEligible(player, now);
+        }
+    }
+
+    private void armIfEligible(Player player, long now) {
+        PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
+        if (dropSettings.mode() != PluginSettings.DropMode.SCHEDULED || !stormingWorlds.contains(player.getWorld())) {
+            return;
+        }
+
+        UUID uuid = player.getUniqueId();
+        long last = lastDrop.get(slots.slotOf(uuid));
+        long eligibleAt = last == 0L ? now : Math.max(now, last + dropSettings.cooldownMs());
+        schedule.arm(uuid, eligibleAt, dropSettings.chance());
+    }
+
+    private void runDropPass() {
+        long now = System.currentTimeMillis();
+        PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
+
+        if (dropSettings.mode() == PluginSettings.DropMode.SCHEDULED) {
+            runScheduledDrops(now, dropSettings);
+        } else {
+            for (World world : stormingWorlds) {
+                for (Player player : world.getPlayers()) {
+                    rollDrop(player, now, dropSettings);
+                }
+            }
+        }
+        plugin.getInventoryDeliveries().flush();
+    }
+
+    /**
+     * Visits one twentieth of the online players, so each player is still rolled once per second.
+     */
+    private void runDropShard() {
+        long now = System.currentTimeMillis();
+        PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
+        for (Player player : shards.get(currentShard)) {
+            if (stormingWorlds.contains(player.getWorld())) {
+                rollDrop(player, now, dropSettings);
+            }
+        }
+        plugin.getInventoryDeliveries().flush();
+        currentShard = (currentShard + 1) % SHARD_COUNT;
+    }
+
+    private void rollDrop(Player player, long now, PluginSettings.DropSettings dropSettings) {
+        if (!canReceiveDrop(player, now, dropSettings)) {
+            return;
+        }
+
+        if (Math.random() < dropSettings.chance()) {
+            awardDrop(player, now, dropSettings);
+        }
     }
 
     /**
-     * Removes only cooldowns that have already expired. Active cooldowns stay in
-     * memory across reconnects so leaving the server cannot bypass storm-drop limits.
+     * Delivers a won drop, or queues it when the emission limit is reached.
      *
-     * @param nowMs current time in milliseconds
+     * @return whether the Tear was delivered now
+     */
+    private boolean awardDrop(Player player, long now, PluginSettings.DropSettings dropSettings) {
+        UUID uuid = player.getUniqueId();
+        // Newer drops never overtake queued ones; without a limit no tokens need to be refilled or taken.
+        if (!deferred.isEmpty() || (limiter.isLimited() && !limiter.tryAcquire(now))) {
+            DeferredDrop drop = new DeferredDrop(uuid, now);
+            deferred.put(uuid, drop);
+            deferredQueue.add(drop);
+            plugin.getDropMetrics().recordDeferral();
+            if (deferredTask == null) {
+                deferredTask = Bukkit.getScheduler().runTaskTimer(plugin, this::drainDeferredDrops, 1L, 1L);
+            }
+            return false;
+        }
+
+        deliverTear(player, dropSettings);
+        lastDrop.set(slots.acquire(uuid), now);
+        return true;
+    }
+
+    private void drainDeferredDrops() {
+        long now = System.currentTimeMillis();
+        PluginSettings.DropSettings dropSettings = plugin.getSettings().drops();
+        DeferredDrop head;
+        while ((head = deferredQueue.peek()) != null) {
+            UUID uuid = head.playerId();
+            Player player = Bukkit.getPlayer(uuid);
+            if (deferred.get(uuid) != head || player == null) {
+                deferredQueue.poll();
+                deferred.remove(uuid, head);
+                continue;
+            }
+            if (!stormingWorlds.contains(player.getWorld()) || !isEligible(player, now, dropSettings)) {
+                // The player's world stopped storming or was blacklisted, or they went idle or lost the
+                // permission while waiting, so the drop is forfeited as if they had left.
+                deferredQueue.poll();
+                deferred.remove(uuid);
+                plugin.getDropMetrics().recordDeferredDiscard();
+                armIfEligible(player, now);
+                continue;
+            }
+            if (!limiter.tryAcquire(now)) {
+                break;
+            }
+
+            deferredQueue.poll();
+            deferred.remove(uuid);
+            deliverTear(player, dropSettings);
+            lastDrop.set(slots.acquire(uuid), now);
+            plugin.getDropMetrics().recordDeferredDelivery(now - head.sinceMs());
+            armIfEligible(player, now);
+        }
+        plugin.getInventoryDeliveries().flush();
+
+        if (deferred.isEmpty()) {
+            deferredQueue.clear();
+            cancelDeferredDrain();
+        }
+    }
+
+    private void cancelDeferredDrain() {
+        if (deferredTask != null) {
+            deferredTask.cancel();
+            deferredTask = null;
+        }
+    }
+
+    private static String formatTokens(double tokens) {
+        return tokens < 0.0 ? "unlimited" : String.format(Locale.ROOT, "%.1f", tokens);
+    }
+
+    private boolean canReceiveDrop(Player player, long now, PluginSettings.DropSettings dropSettings) {
+        if (deferred.containsKey(player.getUniqueId())) {
+            // Already won a drop that is waiting for the emission limiter.
+            return false;
+        }
+        return isEligible(player, now, dropSettings);
+    }
+
+    /**
+     * The checks a roll makes, repeated before a queued drop is delivered.
      */
-    void cleanupExpiredCooldowns(long nowMs) {
-        if (lastDrop.isEmpty()) {
+    private boolean isEligible(Player player, long now, PluginSettings.DropSettings dropSettings) {
+        // Checked first, so AFK players cost no permission lookup, roll or inventory work.
+        if (plugin.getActivityTracker().isIdle(player, now, dropSettings.afkThresholdMs())) {
+            plugin.getDropMetrics().recordIdleSkip();
+            return false;
+        }
+        if (!player.hasPermission("celestialdash.receive")) {
+            return false;
+        }
+        long last = lastDrop.get(slots.slotOf(player.getUniqueId()));
+        return now - last >= dropSettings.cooldownMs();
+    }
+
+    private void runScheduledDrops(long now, PluginSettings.DropSettings dropSettings) {
+        UUID uuid;
+        while ((uuid = schedule.pollDue(now)) != null) {
+            Player player = Bukkit.getPlayer(uuid);
+            if (player == null || !stormingWorlds.contains(player.getWorld())) {
+                // Re-armed when the player joins, changes world or their world starts storming.
+                continue;
+            }
+
+            long last = lastDrop.get(slots.slotOf(uuid));
+            if (canReceiveDrop(player, now, dropSettings)) {
+                // A deferred drop re-arms the player once it is delivered.
+                if (awardDrop(player, now, dropSettings)) {
+                    schedule.arm(uuid, now + dropSettings.cooldownMs(), dropSettings.chance());
+                }
+            } else {
+                // The roll for this second is spent; draw the next drop as polling would.
+                schedule.arm(uuid, Math.max(now + 1_000L, last + dropSettings.cooldownMs()), dropSettings.chance());
+            }
+        }
+    }
+
+    private void deliverTear(Player player, PluginSettings.DropSettings dropSettings) {
+        if (dropSettings.deliveryMode() == PluginSettings.DropDeliveryMode.INVENTORY) {
+            // Delivered and announced together when the current pass flushes.
+            plugin.getInventoryDeliveries().enqueue(player, 1);
             return;
         }
 
-        long cooldownMs = plugin.getSettings().drops().cooldownMs();
-        lastDrop.entrySet().removeIf(entry -> nowMs - entry.getValue() >= cooldownMs);
+        ItemStack tear = TearUtils.createCelestialTear();
+        if (dropSettings.deliveryMode() == PluginSettings.DropDeliveryMode.VIRTUAL) {
+            plugin.getVirtualTears().drop(player, player.getLocation(), tear.getAmount());
+        } else {
+            plugin.getSafeDropPlacer().drop(player, tear);
+        }
+
+        // Notify only the player who received the tear
+        plugin.getMessages().sendTearDropMessage(player);
+    }
+
+    private record DeferredDrop(UUID playerId, long sinceMs) {
     }
 }
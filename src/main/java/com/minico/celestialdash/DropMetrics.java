@@ -0,0 +1,69 @@
+package com.minico.celestialdash;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counters describing storm-drop work, shown by {@code /celestialdash metrics}.
+ *
+ * <p>Counters are updated on the main thread and only read when the command runs.</p>
+ */
+final class DropMetrics {
+
+    private long idleSkips;
+    private long deferrals;
+    private long deferredDeliveries;
+    private long deferredDiscards;
+    private long totalDeferredWaitMs;
+    private long maxDeferredWaitMs;
+    private long placementFallbacks;
+
+    void recordIdleSkip() {
+        idleSkips++;
+    }
+
+    void recordDeferral() {
+        deferrals++;
+    }
+
+    void recordDeferredDelivery(long waitMs) {
+        deferredDeliveries++;
+        totalDeferredWaitMs += waitMs;
+        maxDeferredWaitMs = Math.max(maxDeferredWaitMs, waitMs);
+    }
+
+    void recordDeferredDiscard() {
+        deferredDiscards++;
+    }
+
+    void recordPlacementFallback() {
+        placementFallbacks++;
+    }
+
+    /**
+     * @return drop checks skipped because the player was AFK, since the plugin enabled
+     */
+    long idleSkips() {
+        return idleSkips;
+    }
+
+    long deferrals() {
+        return deferrals;
+    }
+
+    /**
+     * @return metric names and formatted values in display order
+     */
+    Map<String, String> snapshot() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("idle-players-skipped", String.valueOf(idleSkips));
+        values.put("drops-deferred", String.valueOf(deferrals));
+        values.put("deferred-drops-delivered", String.valueOf(deferredDeliveries));
+        values.put("deferred-drops-forfeited", String.valueOf(deferredDiscards));
+        values.put("average-deferred-wait-ms",
+                String.valueOf(deferredDeliveries == 0L ? 0L : totalDeferredWaitMs / deferredDeliveries));
+        values.put("max-deferred-wait-ms", String.valueOf(maxDeferredWaitMs));
+        values.put("safe-placement-fallbacks", String.valueOf(placementFallbacks));
+        return values;
+    }
+}
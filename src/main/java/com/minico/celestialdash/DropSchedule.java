@@ -0,0 +1,127 @@
+package com.minico.celestialdash;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Samples when each player's next storm drop happens instead of rolling every second.
+ *
+ * <p>Rolling a chance {@code p} once per second until it succeeds takes a
+ * geometrically distributed number of seconds. The schedule draws that number
+ * directly, once per drop, and keeps the resulting due times in a priority queue,
+ * so the drop pass only touches players whose drop is actually due. Each player
+ * draws from their own stream split from one root {@link SplittableRandom}, which
+ * makes a seeded schedule reproducible.</p>
+ */
+final class DropSchedule {
+
+    private static final long MILLIS_PER_TRIAL = 1_000L;
+    private static final long MAX_TRIALS = Integer.MAX_VALUE;
+
+    private final SplittableRandom root;
+    private final PriorityQueue<Entry> queue = new PriorityQueue<>((first, second) ->
+            Long.compare(first.dueAtMs, second.dueAtMs));
+    // The current entry per player; queue entries that are no longer current are skipped when polled.
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<UUID, SplittableRandom> streams = new HashMap<>();
+
+    DropSchedule(SplittableRandom root) {
+        this.root = root;
+    }
+
+    /**
+     * Schedules the player's next drop unless one is already pending.
+     *
+     * @param eligibleAtMs first time the player may receive a drop, such as the end of their cooldown
+     * @param chance configured drop chance per second
+     */
+    void arm(UUID playerId, long eligibleAtMs, double chance) {
+        if (chance <= 0.0 || entries.containsKey(playerId)) {
+            return;
+        }
+
+        SplittableRandom stream = streams.computeIfAbsent(playerId, ignored -> root.split());
+        long trials = sampleTrials(stream, chance);
+        // The first trial happens as soon as the player is eligible.
+        long dueAtMs = eligibleAtMs + (trials - 1L) * MILLIS_PER_TRIAL;
+        Entry entry = new Entry(playerId, dueAtMs);
+        entries.put(playerId, entry);
+        queue.add(entry);
+    }
+
+    boolean isArmed(UUID playerId) {
+        return entries.containsKey(playerId);
+    }
+
+    void remove(UUID playerId) {
+        if (entries.remove(playerId) != null && queue.size() > 2 * entries.size() + 64) {
+            // Removed entries stay queued until they reach the head; rebuild once they dominate.
+            queue.clear();
+            queue.addAll(entries.values());
+        }
+        streams.remove(playerId);
+    }
+
+    void clear() {
+        queue.clear();
+        entries.clear();
+        streams.clear();
+    }
+
+    /**
+     * Removes and returns one player whose drop is due.
+     *
+     * @return the player, or {@code null} when no drop is due yet
+     */
+    UUID pollDue(long nowMs) {
+        while (!queue.isEmpty()) {
+            Entry head = queue.peek();
+            if (entries.get(head.playerId) != head) {
+                queue.poll();
+                continue;
+            }
+            if (head.dueAtMs > nowMs) {
+                return null;
+            }
+            queue.poll();
+            entries.remove(head.playerId);
+            return head.playerId;
+        }
+        return null;
+    }
+
+    int armedCount() {
+        return entries.size();
+    }
+
+    /**
+     * Draws how many once-per-second trials with the given chance it takes to get the first success.
+     *
+     * @return a value of at least 1
+     */
+    static long sampleTrials(SplittableRandom random, double chance) {
+        if (chance >= 1.0) {
+            return 1L;
+        }
+        // 1 - nextDouble() lies in (0, 1], so the logarithm is finite.
+        double uniform = 1.0 - random.nextDouble();
+        double trials = Math.ceil(Math.log(uniform) / Math.log1p(-chance));
+        if (!(trials < MAX_TRIALS)) {
+            return MAX_TRIALS;
+        }
+        return Math.max(1L, (long) trials);
+    }
+
+    private static final class Entry {
+        private final UUID playerId;
+        private final long dueAtMs;
+
+        private Entry(UUID playerId, long dueAtMs) {
+            this.playerId = playerId;
+            this.dueAtMs = dueAtMs;
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Item;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+
+/**
+ * Owns the Tear item entities the plugin drops on the ground.
+ *
+ * <p>Every Tear the plugin drops goes through {@link #drop(Player, Location, ItemStack)}.
+ * The spawned entities are indexed by the chunk they were dropped in, so a new drop
+ * first tops up a tracked stack within {@code ground-tears.merge-radius}, and a chunk
+ * never holds more than {@code ground-tears.max-per-chunk} tracked stacks: once the
+ * cap is reached, new Tears only fill the chunk's existing stacks. Tears that do not
+ * fit are left to their player as {@link VirtualTears} instead, which add no entities,
+ * and no tracked Tear is ever removed to make room.</p>
+ *
+ * <p>Stacks are queued in spawn order and removed once {@code ground-tears.lifetime-seconds}
+ * has passed since they spawned. The check runs once per second while any tracked
+ * stack exists and only looks at the oldest ones. A server whose own item despawn
+ * time is shorter still despawns them earlier.</p>
+ *
+ * <p>Entities leave the index when they are picked up, merged, despawned or unloaded
+ * with their chunk; anything else that removes them is noticed lazily because its
+ * entity is no longer valid.</p>
+ */
+final class GroundTearTracker implements Listener {
+
+    private final CelestialDash plugin;
+    private final ChunkIndex<Item> index = new ChunkIndex<>();
+    private final Map<UUID, TrackedTear> tracked = new HashMap<>();
+    // Spawn order, so the oldest stack is always first; untracked stacks are skipped when they come up.
+    private final Queue<TrackedTear> expiries = new ArrayDeque<>();
+    private BukkitTask expiryTask;
+    private long overCapTears;
+
+    GroundTearTracker(CelestialDash plugin) {
+        this.plugin = plugin;
+    }
+
+    void stop() {
+        // The entities stay in the world and despawn on their own.
+        cancelExpiryTask();
+        index.clear();
+        tracked.clear();
+        expiries.clear();
+    }
+
+    /**
+     * Drops a player's Tears at a location. Tears the chunk has no room for are left to
+     * the player as virtual Tears at the same spot.
+     */
+    void drop(Player owner, Location location, ItemStack tears) {
+        int overflow = drop(location, tears);
+        if (overflow > 0 && owner.isOnline()) {
+            plugin.getVirtualTears().drop(owner, location, overflow);
+        }
+    }
+
+    /**
+     * Drops Tears at a location, merging them into tracked stacks where possible.
+     *
+     * @return the Tears that did not fit under the chunk's cap and were not dropped
+     */
+    int drop(Location location, ItemStack tears) {
+        World world = location.getWorld();
+        if (world == null || tears.getAmount() <= 0) {
+            return 0;
+        }
+
+        PluginSettings.GroundTearSettings settings = plugin.getSettings().groundTears();
+        UUID worldId = world.getUID();
+        long chunkKey = chunkKeyOf(location);
+        int remaining = topUp(nearbyStacks(location, settings.mergeRadius()), tears, tears.getAmount());
+
+        List<Item> chunkStacks = liveStacks(worldId, chunkKey);
+        while (remaining > 0) {
+            if (chunkStacks.size() >= settings.maxPerChunk()) {
+                remaining = topUp(chunkStacks, tears, remaining);
+                break;
+            }
+
+            ItemStack piece = tears.clone();
+            piece.setAmount(Math.min(remaining, piece.getMaxStackSize()));
+            remaining -= piece.getAmount();
+            chunkStacks.add(spawn(world, chunkKey, location, piece));
+        }
+        overCapTears += remaining;
+        return remaining;
+    }
+
+    /**
+     * Removes every tracked Tear entity from its world.
+     *
+     * @return number of Tears removed
+     */
+    int purge() {
+        int purged = 0;
+        for (TrackedTear tear : tracked.values()) {
+            Item item = tear.item();
+            if (item.isValid()) {
+                purged += item.getItemStack().getAmount();
+                item.remove();
+            }
+        }
+        tracked.clear();
+        index.clear();
+        expiries.clear();
+        cancelExpiryTask();
+        return purged;
+    }
+
+    int trackedCount() {
+        return tracked.size();
+    }
+
+    void appendMetrics(Map<String, String> metrics) {
+        metrics.put("ground-tears-tracked", String.valueOf(tracked.size()));
+        metrics.put("ground-tears-over-cap", String.valueOf(overCapTears));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onEntityPickupItem(EntityPickupItemEvent event) {
+        if (event.getRemaining() == 0) {
+            untrack(event.getItem().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onInventoryPickupItem(InventoryPickupItemEvent event) {
+        untrack(event.getItem().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onItemMerge(ItemMergeEvent event) {
+        // The merged entity is removed; its Tears now belong to the target stack.
+        untrack(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onItemDespawn(ItemDespawnEvent event) {
+        untrack(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        // Unloaded entities are saved with the chunk and come back as new objects, so they are released here.
+        Chunk chunk = event.getChunk();
+        for (Item item : List.copyOf(index.get(chunk.getWorld().getUID(),
+                ChunkIndex.chunkKey(chunk.getX(), chunk.getZ())))) {
+            untrack(item.getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onWorldUnload(WorldUnloadEvent event) {
+        UUID worldId = event.getWorld().getUID();
+        index.removeWorld(worldId);
+        tracked.values().removeIf(tear -> tear.worldId().equals(worldId));
+    }
+
+    private Item spawn(World world, long chunkKey, Location location, ItemStack piece) {
+        Item item = world.dropItemNaturally(location, piece);
+
+        // Indexed under the chunk it was dropped for, which the per-chunk cap counts against.
+        UUID worldId = world.getUID();
+        TrackedTear tear = new TrackedTear(item, worldId, chunkKey, System.currentTimeMillis());
+        index.add(worldId, chunkKey, item);
+        tracked.put(item.getUniqueId(), tear);
+        expiries.add(tear);
+        if (expiryTask == null) {
+            expiryTask = Bukkit.getScheduler().runTaskTimer(plugin,
+                    () -> removeExpired(System.currentTimeMillis()), 20L, 20L);
+        }
+        return item;
+    }
+
+    /**
+     * Removes the stacks whose lifetime has ended. The lifetime is read on every run, so a reload
+     * also applies to stacks already on the ground.
+     */
+    void removeExpired(long nowMs) {
+        long lifetimeMs = plugin.getSettings().groundTears().lifetimeSeconds() * 1_000L;
+        TrackedTear oldest;
+        while ((oldest = expiries.peek()) != null && nowMs - oldest.spawnedAtMs() >= lifetimeMs) {
+            expiries.poll();
+            Item item = oldest.item();
+            if (tracked.get(item.getUniqueId()) == oldest) {
+                untrack(item.getUniqueId());
+                item.remove();
+            }
+        }
+        if (expiries.isEmpty()) {
+            cancelExpiryTask();
+        }
+    }
+
+    private void cancelExpiryTask() {
+        if (expiryTask != null) {
+            expiryTask.cancel();
+            expiryTask = null;
+        }
+    }
+
+    private List<Item> nearbyStacks(Location location, double radius) {
+        List<Item> stacks = new ArrayList<>();
+        if (radius <= 0.0) {
+            return stacks;
+        }
+
+        World world = location.getWorld();
+        double radiusSquared = radius * radius;
+        index.forEachNear(world.getUID(), location.getX(), location.getZ(), radius, item -> {
+            if (!item.isValid()) {
+                untrack(item.getUniqueId());
+                return;
+            }
+            Location itemLocation = item.getLocation();
+            if (world.equals(itemLocation.getWorld()) && itemLocation.distanceSquared(location) <= radiusSquared) {
+                stacks.add(item);
+            }
+        });
+        return stacks;
+    }
+
+    /**
+     * @return the chunk's tracked stacks that still exist, oldest first
+     */
+    private List<Item> liveStacks(UUID worldId, long chunkKey) {
+        List<Item> stacks = new ArrayList<>(index.get(worldId, chunkKey));
+        stacks.removeIf(item -> {
+            if (item.isValid()) {
+                return false;
+            }
+            untrack(item.getUniqueId());
+            return true;
+        });
+        return stacks;
+    }
+
+    /**
+     * Adds up to {@code amount} Tears to the given stacks.
+     *
+     * @return the Tears that did not fit
+     */
+    private static int topUp(List<Item> stacks, ItemStack tears, int amount) {
+        for (Item item : stacks) {
+            if (amount == 0) {
+                break;
+            }
+            ItemStack stack = item.getItemStack();
+            int room = stack.getMaxStackSize() - stack.getAmount();
+            if (room <= 0 || !stack.isSimilar(tears)) {
+                continue;
+            }
+            int added = Math.min(room, amount);
+            stack.setAmount(stack.getAmount() + added);
+            item.setItemStack(stack);
+            amount -= added;
+        }
+        return amount;
+    }
+
+    private void untrack(UUID entityId) {
+        TrackedTear tear = tracked.remove(entityId);
+        if (tear != null) {
+            index.remove(tear.worldId(), tear.chunkKey(), tear.item());
+        }
+    }
+
+    private static long chunkKeyOf(Location location) {
+        return ChunkIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private record TrackedTear(Item item, UUID worldId, long chunkKey, long spawnedAtMs) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Material;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Routes right-clicks with Celestial items from one interaction listener.
+ *
+ * <p>Almost every interaction on a server involves some other item, so the held
+ * material is compared before anything else. Only Ghast Tear and Nautilus Shell
+ * clicks reach the shared click guards and, after them, the item checks of the
+ * dash or Amulet handler.</p>
+ */
+final class InteractionDispatcher implements Listener {
+
+    private final DashHandler dashHandler;
+    private final AmuletHandler amuletHandler;
+
+    InteractionDispatcher(DashHandler dashHandler, AmuletHandler amuletHandler) {
+        this.dashHandler = dashHandler;
+        this.amuletHandler = amuletHandler;
+    }
+
+    @EventHandler(priority = EventPriority.HIGHEST)
+    @SuppressWarnings("unused")
+    public void onPlayerInteract(PlayerInteractEvent event) {
+        ItemStack item = event.getItem();
+        if (item == null) {
+            return;
+        }
+
+        Material type = item.getType();
+        if (type != Material.GHAST_TEAR && type != Material.NAUTILUS_SHELL) {
+            return;
+        }
+
+        if (!InteractionUtils.isEligibleRightClick(event)) {
+            return;
+        }
+
+        if (type == Material.GHAST_TEAR) {
+            dashHandler.useTear(event);
+        } else {
+            amuletHandler.useAmulet(event);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.minico.celestialdash;
 import org.bukkit.event.Event;
 import org.bukkit.event.block.Action;
 import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
 
 /**
  * Shared interaction guards for Celestial Dash items.
@@ -12,6 +13,25 @@ final class InteractionUtils {
     private InteractionUtils() {
     }
 
+    /**
+     * Returns whether a main-hand right-click may activate a Celestial item.
+     *
+     * <p>The hand and action are checked before the denial and clicked-block checks
+     * because they are the cheapest to reject.</p>
+     */
+    static boolean isEligibleRightClick(PlayerInteractEvent event) {
+        if (event.getHand() != EquipmentSlot.HAND) {
+            return false;
+        }
+
+        Action action = event.getAction();
+        if (action != Action.RIGHT_CLICK_AIR && action != Action.RIGHT_CLICK_BLOCK) {
+            return false;
+        }
+
+        return !isDeniedByAnotherListener(event) && !isRightClickOnInteractableBlock(event);
+    }
+
     /**
      * Returns whether a right-click should remain available to the clicked vanilla block.
      *
@@ -0,0 +1,129 @@
+package com.minico.celestialdash;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Collects {@code drop-delivery: INVENTORY} storm Tears during a drop pass and delivers them together.
+ *
+ * <p>Drops are queued per player while the pass runs; {@link #flush()} at the end of
+ * the pass gives each player all of their Tears with at most one inventory search
+ * and sends them one notification. The slot of the player's last topped-up Tear
+ * stack is remembered, so later deliveries usually go straight into that slot.</p>
+ */
+final class InventoryDeliveries implements Listener {
+
+    private final CelestialDash plugin;
+    private final Map<UUID, PendingDelivery> pending = new LinkedHashMap<>();
+    private final Map<UUID, Integer> slotHints = new HashMap<>();
+
+    InventoryDeliveries(CelestialDash plugin) {
+        this.plugin = plugin;
+    }
+
+    void stop() {
+        flush();
+        slotHints.clear();
+    }
+
+    void enqueue(Player player, int amount) {
+        PendingDelivery delivery = pending.computeIfAbsent(player.getUniqueId(),
+                ignored -> new PendingDelivery(player));
+        delivery.amount += amount;
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    /**
+     * Delivers every queued Tear and notifies each receiving player once.
+     */
+    void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        for (PendingDelivery delivery : pending.values()) {
+            Player player = delivery.player;
+            if (player.isOnline()) {
+                deliver(player, delivery.amount);
+                plugin.getMessages().sendTearDropMessage(player);
+            }
+        }
+        pending.clear();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        slotHints.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void deliver(Player player, int amount) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack tear = TearUtils.createCelestialTear();
+        int remaining = amount;
+
+        int slot = findTearSlot(player.getUniqueId(), inventory, tear);
+        if (slot >= 0) {
+            ItemStack stack = inventory.getItem(slot);
+            int added = Math.min(stack.getMaxStackSize() - stack.getAmount(), remaining);
+            stack.setAmount(stack.getAmount() + added);
+            inventory.setItem(slot, stack);
+            remaining -= added;
+        }
+
+        int dropped = 0;
+        if (remaining > 0) {
+            for (ItemStack leftover : inventory.addItem(TearUtils.createCelestialTear(remaining)).values()) {
+                dropped += leftover.getAmount();
+                plugin.getGroundTears().drop(player, player.getLocation(), leftover);
+            }
+        }
+        plugin.getTearCounter().adjust(player, amount - dropped);
+    }
+
+    /**
+     * @return a storage slot holding a Tear stack with room, or {@code -1}
+     */
+    private int findTearSlot(UUID playerId, PlayerInventory inventory, ItemStack tear) {
+        Integer hint = slotHints.get(playerId);
+        if (hint != null && hasRoomForTear(inventory.getItem(hint), tear)) {
+            return hint;
+        }
+
+        ItemStack[] storage = inventory.getStorageContents();
+        for (int slot = 0; slot < storage.length; slot++) {
+            if (hasRoomForTear(storage[slot], tear)) {
+                slotHints.put(playerId, slot);
+                return slot;
+            }
+        }
+        slotHints.remove(playerId);
+        return -1;
+    }
+
+    private static boolean hasRoomForTear(ItemStack stack, ItemStack tear) {
+        return stack != null && stack.getAmount() < stack.getMaxStackSize() && stack.isSimilar(tear);
+    }
+
+    private static final class PendingDelivery {
+        private final Player player;
+        private int amount;
+
+        private PendingDelivery(Player player) {
+            this.player = player;
+        }
+    }
+}
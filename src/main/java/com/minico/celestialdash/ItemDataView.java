@@ -0,0 +1,109 @@
+package com.minico.celestialdash;
+
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+/**
+ * Reads persistent data values from items without copying their metadata.
+ *
+ * <p>{@link ItemStack#getItemMeta()} returns a full copy of the item's metadata,
+ * including its name, lore and every persistent data entry. Newer Paper servers
+ * expose a read-only persistent data view directly on the item stack instead.
+ * The view is looked up once when the class loads; when the running server offers
+ * it, it is used for every lookup, and other servers fall back to the metadata
+ * copy. If reading through the view ever fails, the fallback is used from then on
+ * rather than paying for a failed call on every lookup.</p>
+ */
+final class ItemDataView {
+
+    private static final String DATA_VIEW_METHOD = "getPersistentDataContainer";
+    private static final MethodType VIEW_TYPE = MethodType.methodType(Object.class, ItemStack.class);
+    private static final MethodType VIEW_GET_TYPE =
+            MethodType.methodType(Object.class, Object.class, NamespacedKey.class, PersistentDataType.class);
+    private static final ItemDataView SERVER = of(findDataView());
+
+    // Both null when the server has no data view.
+    private final MethodHandle dataView;
+    private final MethodHandle dataViewGet;
+    private volatile boolean failed;
+
+    private ItemDataView(MethodHandle dataView, MethodHandle dataViewGet) {
+        this.dataView = dataView;
+        this.dataViewGet = dataViewGet;
+    }
+
+    /**
+     * @return the stored value, or {@code null} when the item has no metadata or no value for the key
+     */
+    static <P, C> C get(ItemStack item, NamespacedKey key, PersistentDataType<P, C> type) {
+        return SERVER.read(item, key, type);
+    }
+
+    /**
+     * @return the reader for the running server
+     */
+    static ItemDataView server() {
+        return SERVER;
+    }
+
+    /**
+     * @param dataView a method returning an item's persistent data view, taking the item as its receiver
+     *                 or only argument; {@code null} to always copy the metadata
+     */
+    static ItemDataView of(Method dataView) {
+        if (dataView == null) {
+            return new ItemDataView(null, null);
+        }
+
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle view = lookup.unreflect(dataView).asType(VIEW_TYPE);
+            MethodHandle viewGet = lookup.findVirtual(dataView.getReturnType(), "get",
+                            MethodType.methodType(Object.class, NamespacedKey.class, PersistentDataType.class))
+                    .asType(VIEW_GET_TYPE);
+            return new ItemDataView(view, viewGet);
+        } catch (ReflectiveOperationException | RuntimeException exception) {
+            return new ItemDataView(null, null);
+        }
+    }
+
+    boolean usesDataView() {
+        return dataView != null && !failed;
+    }
+
+    <P, C> C read(ItemStack item, NamespacedKey key, PersistentDataType<P, C> type) {
+        if (!item.hasItemMeta()) {
+            return null;
+        }
+
+        if (usesDataView()) {
+            try {
+                Object view = dataView.invokeExact(item);
+                return type.getComplexType().cast(dataViewGet.invokeExact(view, key, type));
+            } catch (Error error) {
+                throw error;
+            } catch (Throwable ignored) {
+                // Fall back to the metadata copy, which every server supports, for this and later lookups.
+                failed = true;
+            }
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        return meta == null ? null : meta.getPersistentDataContainer().get(key, type);
+    }
+
+    private static Method findDataView() {
+        try {
+            return ItemStack.class.getMethod(DATA_VIEW_METHOD);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.minico.celestialdash;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps profiles on the heap for the lifetime of the server process; used by {@code storage.backend: MEMORY} and tests.
+ */
+final class MemoryPlayerStore implements PlayerStore {
+
+    private final Map<UUID, Map<String, Long>> profiles = new ConcurrentHashMap<>();
+    private final AtomicInteger batches = new AtomicInteger();
+
+    @Override
+    public Map<String, Long> load(UUID playerId) {
+        return profiles.getOrDefault(playerId, Map.of());
+    }
+
+    @Override
+    public void saveAll(Map<UUID, Map<String, Long>> batch) {
+        batches.incrementAndGet();
+        for (Map.Entry<UUID, Map<String, Long>> profile : batch.entrySet()) {
+            profiles.put(profile.getKey(), Map.copyOf(profile.getValue()));
+        }
+    }
+
+    /**
+     * @return number of {@link #saveAll} calls so far
+     */
+    int batches() {
+        return batches.get();
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; profiles stay available until the server stops.
+    }
+}
@@ -36,6 +36,13 @@ public class Messages {
     private String usageGiveTemplate;
     private String usageChronicleGiveTemplate;
     private String usagePackSendTemplate;
+    private String usageQualityTemplate;
+    private String cosmeticQualityTemplate;
+    private String usageTearsPurgeTemplate;
+    private String tearsPurgedTemplate;
+    private String usageMetricsTemplate;
+    private String metricsHeaderMessage;
+    private String metricTemplate;
     private String amuletDisabledMessage;
     private String amuletNoEffectsMessage;
     private String amuletCooldownTemplate;
@@ -192,6 +199,41 @@ public class Messages {
                 "&7 /%label% pack send <player>"
         ));
 
+        usageQualityTemplate = color(plugin.getConfig().getString(
+                "messages.usage-quality",
+                "&7 /%label% quality"
+        ));
+
+        cosmeticQualityTemplate = color(plugin.getConfig().getString(
+                "messages.cosmetic-quality",
+                "&7Cosmetic quality: &b%tier% &7(average tick: &f%mspt% ms&7)"
+        ));
+
+        usageTearsPurgeTemplate = color(plugin.getConfig().getString(
+                "messages.usage-tears-purge",
+                "&7 /%label% tears purge"
+        ));
+
+        tearsPurgedTemplate = color(plugin.getConfig().getString(
+                "messages.tears-purged",
+                "&aRemoved %amount% Celestial Tears from the ground."
+        ));
+
+        usageMetricsTemplate = color(plugin.getConfig().getString(
+                "messages.usage-metrics",
+                "&7 /%label% metrics"
+        ));
+
+        metricsHeaderMessage = color(plugin.getConfig().getString(
+                "messages.metrics-header",
+                "&bCelestialDash storm-drop metrics:"
+        ));
+
+        metricTemplate = color(plugin.getConfig().getString(
+                "messages.metric",
+                "&7 %name%: &f%value%"
+        ));
+
         amuletDisabledMessage = color(plugin.getConfig().getString(
                 "messages.amulet-disabled",
                 "&cThe Celestial Amulet is disabled."
@@ -332,6 +374,38 @@ public class Messages {
         return usagePackSendTemplate.replace("%label%", label);
     }
 
+    public String formatUsageQuality(String label) {
+        return usageQualityTemplate.replace("%label%", label);
+    }
+
+    public String formatCosmeticQuality(String tier, String averageTickMs) {
+        return cosmeticQualityTemplate
+                .replace("%tier%", tier)
+                .replace("%mspt%", averageTickMs);
+    }
+
+    public String formatUsageTearsPurge(String label) {
+        return usageTearsPurgeTemplate.replace("%label%", label);
+    }
+
+    public String formatTearsPurged(int amount) {
+        return tearsPurgedTemplate.replace("%amount%", String.valueOf(amount));
+    }
+
+    public String formatUsageMetrics(String label) {
+        return usageMetricsTemplate.replace("%label%", label);
+    }
+
+    public String getMetricsHeaderMessage() {
+        return metricsHeaderMessage;
+    }
+
+    public String formatMetric(String name, String value) {
+        return metricTemplate
+                .replace("%name%", name)
+                .replace("%value%", value);
+    }
+
     public String getAmuletDisabledMessage() {
         return amuletDisabledMessage;
     }
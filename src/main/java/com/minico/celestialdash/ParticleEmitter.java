@@ -0,0 +1,118 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends dash particles either as a world broadcast or only to nearby viewers.
+ *
+ * <p>Viewer-culled emission skips players beyond the configured view distance,
+ * lowers the particle count with distance, and limits how many particle packets
+ * a single viewer receives per tick. The budget is shared by every effect sent
+ * through this emitter, so crowded areas cannot flood one client.</p>
+ */
+final class ParticleEmitter {
+
+    private final Map<UUID, ViewerBudget> budgets = new HashMap<>();
+    private final Location viewerLocation = new Location(null, 0.0, 0.0, 0.0);
+    private long tick;
+
+    /**
+     * Starts a new per-viewer packet budget. Called once per server tick.
+     */
+    void beginTick() {
+        tick++;
+    }
+
+    /**
+     * Emits one particle effect.
+     *
+     * @param source player whose effect this is; viewers who cannot see them receive nothing
+     */
+    void emit(Player source,
+              Location location,
+              Particle particle,
+              int count,
+              double offsetX,
+              double offsetY,
+              double offsetZ,
+              double speed,
+              PluginSettings.ViewerCullingSettings culling) {
+        World world = location.getWorld();
+        if (world == null || count <= 0) {
+            return;
+        }
+        if (!culling.enabled()) {
+            world.spawnParticle(particle, location, count, offsetX, offsetY, offsetZ, speed);
+            return;
+        }
+
+        double viewDistance = culling.viewDistance();
+        double viewDistanceSquared = viewDistance * viewDistance;
+        for (Player viewer : world.getPlayers()) {
+            double distanceSquared = viewer.getLocation(viewerLocation).distanceSquared(location);
+            if (distanceSquared > viewDistanceSquared) {
+                continue;
+            }
+            if (viewer != source && !viewer.canSee(source)) {
+                continue;
+            }
+            if (!tryConsume(viewer.getUniqueId(), culling.packetsPerViewerPerTick())) {
+                continue;
+            }
+
+            int scaledCount = scaleCount(count, Math.sqrt(distanceSquared),
+                    culling.fullDetailDistance(), viewDistance);
+            viewer.spawnParticle(particle, location, scaledCount, offsetX, offsetY, offsetZ, speed);
+        }
+    }
+
+    void forget(UUID viewer) {
+        budgets.remove(viewer);
+    }
+
+    void clear() {
+        budgets.clear();
+    }
+
+    /**
+     * Reserves one packet from the viewer's budget for the current tick.
+     *
+     * @param limit packets the calling effect may use, including packets already sent this tick
+     */
+    boolean tryConsume(UUID viewer, int limit) {
+        ViewerBudget budget = budgets.computeIfAbsent(viewer, ignored -> new ViewerBudget());
+        if (budget.tick != tick) {
+            budget.tick = tick;
+            budget.used = 0;
+        }
+        if (budget.used >= limit) {
+            return false;
+        }
+        budget.used++;
+        return true;
+    }
+
+    /**
+     * Scales a particle count linearly from the full count at the full-detail distance
+     * down to a single particle at the view distance.
+     */
+    static int scaleCount(int count, double distance, double fullDetailDistance, double viewDistance) {
+        if (distance <= fullDetailDistance || viewDistance <= fullDetailDistance) {
+            return count;
+        }
+        double remaining = (viewDistance - distance) / (viewDistance - fullDetailDistance);
+        return Math.max(1, (int) Math.ceil(count * remaining));
+    }
+
+    private static final class ViewerBudget {
+        private long tick = Long.MIN_VALUE;
+        private int used;
+    }
+}
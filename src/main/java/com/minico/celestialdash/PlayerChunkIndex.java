@@ -0,0 +1,105 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Keeps online players grouped by the chunk they stand in, so a lightning strike only
+ * looks at the players in nearby chunks.
+ *
+ * <p>The owner feeds position changes from movement, teleport, respawn and vehicle
+ * events. A player is only re-indexed when they cross into another chunk or world,
+ * and nothing is maintained while the index is disabled.</p>
+ */
+final class PlayerChunkIndex {
+
+    private final ChunkIndex<Player> index = new ChunkIndex<>();
+    private final Map<UUID, IndexedChunk> positions = new HashMap<>();
+    private boolean enabled;
+
+    void enable() {
+        if (enabled) {
+            return;
+        }
+        enabled = true;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            update(player, player.getLocation());
+        }
+    }
+
+    void disable() {
+        enabled = false;
+        index.clear();
+        positions.clear();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    void update(Player player) {
+        update(player, player.getLocation());
+    }
+
+    /**
+     * Moves the player to the chunk containing {@code location} if it differs from their indexed chunk.
+     */
+    void update(Player player, Location location) {
+        World world = location == null ? null : location.getWorld();
+        if (!enabled || world == null) {
+            return;
+        }
+
+        UUID worldId = world.getUID();
+        long chunkKey = ChunkIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        IndexedChunk current = positions.get(player.getUniqueId());
+        if (current != null && current.chunkKey() == chunkKey && current.worldId().equals(worldId)) {
+            return;
+        }
+
+        if (current != null) {
+            index.remove(current.worldId(), current.chunkKey(), player);
+        }
+        index.add(worldId, chunkKey, player);
+        positions.put(player.getUniqueId(), new IndexedChunk(worldId, chunkKey));
+    }
+
+    void remove(Player player) {
+        IndexedChunk current = positions.remove(player.getUniqueId());
+        if (current != null) {
+            index.remove(current.worldId(), current.chunkKey(), player);
+        }
+    }
+
+    /**
+     * Visits the indexed players whose current location is within {@code radius} blocks of {@code center}.
+     */
+    void forEachWithin(Location center, double radius, Consumer<Player> action) {
+        World world = center.getWorld();
+        if (!enabled || world == null) {
+            return;
+        }
+
+        double radiusSquared = radius * radius;
+        index.forEachNear(world.getUID(), center.getX(), center.getZ(), radius, player -> {
+            Location location = player.getLocation();
+            if (world.equals(location.getWorld()) && location.distanceSquared(center) <= radiusSquared) {
+                action.accept(player);
+            }
+        });
+    }
+
+    int size() {
+        return index.size();
+    }
+
+    private record IndexedChunk(UUID worldId, long chunkKey) {
+    }
+}
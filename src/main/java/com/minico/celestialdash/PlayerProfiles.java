@@ -0,0 +1,300 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Per-player values kept in a {@link PlayerStore} when {@code storage.backend} is not {@code PDC}.
+ *
+ * <p>A profile is read on the async pre-login thread, so joining never waits on the
+ * store, and handed to the main thread when the player joins. While the player is
+ * online, handlers read and change the profile in memory on the main thread. Each
+ * {@code storage.flush-interval-ms}, a copy of every online profile that changed,
+ * including the values handlers keep elsewhere while the player is online, is queued
+ * for the write-behind writer, and so is the final copy when they leave or the plugin
+ * disables. The writer saves every queued profile in one batch each interval, so a
+ * crash loses at most about two intervals of changes. A queued profile stays queued
+ * until its batch is committed, so a player who reconnects before then gets the
+ * queued copy rather than the stored one, and a pre-login load that started before
+ * the player's last copy was queued is discarded and repeated on join.</p>
+ *
+ * <p>A player whose profile could not be loaded has none for the session, so a
+ * transient store error can never overwrite their stored profile: handlers fall
+ * back to persistent data, or skip work that depends on stored state, and nothing
+ * is saved for them when they leave.</p>
+ */
+final class PlayerProfiles implements Listener {
+
+    // A pre-login load cannot take longer than the login it belongs to.
+    private static final long QUEUE_STAMP_MAX_AGE_NANOS = TimeUnit.MINUTES.toNanos(1L);
+
+    private final PlayerStore store;
+    private final Logger logger;
+    // Loaded on pre-login threads and taken on join.
+    private final Map<UUID, Preload> preloaded = new ConcurrentHashMap<>();
+    // When each player's profile was last queued, so a join can tell whether its preload is older.
+    private final Map<UUID, Long> queuedAtNanos = new ConcurrentHashMap<>();
+    // Profiles of online players; main thread only.
+    private final Map<UUID, Map<String, Long>> online = new HashMap<>();
+    // Online players whose profile could not be loaded; main thread only.
+    private final Set<UUID> unavailable = new HashSet<>();
+    // The copy last queued for each online player, so unchanged profiles are not queued again; main thread only.
+    private final Map<UUID, Map<String, Long>> lastQueued = new HashMap<>();
+    // Written by the main thread, drained by the writer.
+    private final Map<UUID, Map<String, Long>> queued = new ConcurrentHashMap<>();
+    private ScheduledExecutorService writer;
+    private BukkitTask snapshotTask;
+    private BiConsumer<UUID, Map<String, Long>> liveValues = (playerId, values) -> {
+    };
+    private volatile long savedProfiles;
+
+    PlayerProfiles(PlayerStore store, Logger logger) {
+        this.store = store;
+        this.logger = logger;
+    }
+
+    /**
+     * Loads the profiles of players who are already online, e.g. after a reload, and starts the writer.
+     *
+     * @param liveValues adds the values a handler keeps outside the profile while the player is online
+     *                   to a copy of that player's profile
+     */
+    void start(Plugin plugin, long flushIntervalMs, BiConsumer<UUID, Map<String, Long>> liveValues) {
+        this.liveValues = liveValues;
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            attach(player.getUniqueId(), loadNow(player.getUniqueId()));
+        }
+        long intervalTicks = Math.max(1L, flushIntervalMs / 50L);
+        snapshotTask = Bukkit.getScheduler().runTaskTimer(plugin, this::queueChangedProfiles,
+                intervalTicks, intervalTicks);
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CelestialDash Profile Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues every online profile, saves everything queued and closes the store.
+     * Must run after the handlers have written their state into the profiles.
+     */
+    void stop() {
+        if (snapshotTask != null) {
+            snapshotTask.cancel();
+            snapshotTask = null;
+        }
+        for (Map.Entry<UUID, Map<String, Long>> profile : online.entrySet()) {
+            enqueue(profile.getKey(), Map.copyOf(profile.getValue()));
+        }
+        online.clear();
+        unavailable.clear();
+        lastQueued.clear();
+        preloaded.clear();
+        queuedAtNanos.clear();
+        if (writer != null) {
+            writer.shutdown();
+            try {
+                if (!writer.awaitTermination(5L, TimeUnit.SECONDS)) {
+                    logger.warning("The profile writer did not stop in time.");
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+            writer = null;
+        }
+        flushSafely();
+        store.close();
+    }
+
+    /**
+     * @return the online player's mutable profile, or {@code null} if they have none
+     */
+    Map<String, Long> profile(UUID playerId) {
+        return online.get(playerId);
+    }
+
+    /**
+     * @return whether the online player's profile failed to load, so their stored state is unknown
+     */
+    boolean isUnavailable(UUID playerId) {
+        return unavailable.contains(playerId);
+    }
+
+    int preloadedCount() {
+        return preloaded.size();
+    }
+
+    int queuedCount() {
+        return queued.size();
+    }
+
+    void appendMetrics(Map<String, String> metrics) {
+        metrics.put("profiles-online", String.valueOf(online.size()));
+        metrics.put("profiles-queued", String.valueOf(queued.size()));
+        metrics.put("profiles-unavailable", String.valueOf(unavailable.size()));
+        metrics.put("profiles-saved", String.valueOf(savedProfiles));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            return;
+        }
+        UUID playerId = event.getUniqueId();
+        long startedAtNanos = System.nanoTime();
+        preloaded.put(playerId, new Preload(loadNow(playerId), startedAtNanos));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerLogin(PlayerLoginEvent event) {
+        // A login refused after pre-login, e.g. by the whitelist or a full server, never reaches the join.
+        if (event.getResult() != PlayerLoginEvent.Result.ALLOWED) {
+            preloaded.remove(event.getPlayer().getUniqueId());
+        }
+    }
+
+    // Runs before the handlers read profiles on join.
+    @EventHandler(priority = EventPriority.LOWEST)
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        Preload preload = preloaded.remove(playerId);
+        Long queuedAt = queuedAtNanos.remove(playerId);
+        Map<String, Long> queuedProfile = queued.get(playerId);
+        Map<String, Long> profile;
+        if (queuedProfile != null) {
+            // The player's previous session ended after the pre-login load and is not saved yet.
+            profile = new HashMap<>(queuedProfile);
+        } else if (preload == null || queuedAt != null && queuedAt - preload.startedAtNanos() >= 0L) {
+            // The pre-login load was skipped, e.g. the plugin enabled mid-login, or it may have read the
+            // store before the previous session's last copy was saved.
+            profile = loadNow(playerId);
+        } else {
+            profile = preload.profile();
+        }
+        attach(playerId, profile);
+    }
+
+    // Runs after the handlers wrote their state at HIGHEST.
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        unavailable.remove(playerId);
+        lastQueued.remove(playerId);
+        Map<String, Long> profile = online.remove(playerId);
+        if (profile != null) {
+            enqueue(playerId, Map.copyOf(profile));
+        }
+    }
+
+    /**
+     * Queues a copy of every online profile that changed since its last queued copy.
+     */
+    void queueChangedProfiles() {
+        for (Map.Entry<UUID, Map<String, Long>> profile : online.entrySet()) {
+            UUID playerId = profile.getKey();
+            Map<String, Long> values = new HashMap<>(profile.getValue());
+            liveValues.accept(playerId, values);
+            Map<String, Long> copy = Map.copyOf(values);
+            if (!copy.equals(lastQueued.get(playerId))) {
+                lastQueued.put(playerId, copy);
+                enqueue(playerId, copy);
+            }
+        }
+
+        // Stamps outlive any pre-login load they could still be compared with.
+        long now = System.nanoTime();
+        queuedAtNanos.values().removeIf(queuedAt -> now - queuedAt > QUEUE_STAMP_MAX_AGE_NANOS);
+    }
+
+    /**
+     * Saves every queued profile in one batch.
+     */
+    void flush() throws IOException {
+        if (queued.isEmpty()) {
+            return;
+        }
+        Map<UUID, Map<String, Long>> batch = new LinkedHashMap<>(queued);
+        store.saveAll(batch);
+        savedProfiles += batch.size();
+        // A profile queued again while the batch was saved stays queued for the next one.
+        for (Map.Entry<UUID, Map<String, Long>> profile : batch.entrySet()) {
+            queued.remove(profile.getKey(), profile.getValue());
+        }
+    }
+
+    private void enqueue(UUID playerId, Map<String, Long> copy) {
+        queued.put(playerId, copy);
+        queuedAtNanos.put(playerId, System.nanoTime());
+    }
+
+    private void attach(UUID playerId, Map<String, Long> profile) {
+        if (profile == null) {
+            unavailable.add(playerId);
+            online.remove(playerId);
+        } else {
+            unavailable.remove(playerId);
+            online.put(playerId, profile);
+        }
+    }
+
+    /**
+     * @return the player's profile, or {@code null} if it could not be loaded
+     */
+    private Map<String, Long> loadNow(UUID playerId) {
+        Map<String, Long> queuedProfile = queued.get(playerId);
+        if (queuedProfile != null) {
+            return new HashMap<>(queuedProfile);
+        }
+        try {
+            return new HashMap<>(store.load(playerId));
+        } catch (IOException exception) {
+            logger.log(Level.WARNING, "Could not load the profile of " + playerId
+                    + "; their stored state is left untouched this session", exception);
+            return null;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (IOException | RuntimeException exception) {
+            logger.log(Level.WARNING, "Could not save player profiles; they stay queued", exception);
+        }
+    }
+
+    /**
+     * @param profile        {@code null} if the load failed
+     * @param startedAtNanos when the load started
+     */
+    private record Preload(Map<String, Long> profile, long startedAtNanos) {
+    }
+}
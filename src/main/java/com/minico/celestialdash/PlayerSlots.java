@@ -0,0 +1,176 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Gives each player a small int slot that indexes the handlers' per-player {@link Column}s.
+ *
+ * <p>A player gets a slot on join. Handlers keep their timestamps in primitive
+ * {@code long} columns indexed by it, so an event costs one hash lookup for the slot
+ * and then plain array reads, without boxing. A value of {@code 0} means "not set".
+ * When a player leaves, the {@link CooldownRegistry} first moves their active
+ * cooldowns into their persistent data; the slot is then zeroed and recycled for
+ * the next player, so the table only ever holds online players.</p>
+ */
+final class PlayerSlots implements Listener {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final Map<UUID, Integer> slots = new HashMap<>();
+    private final List<Column> columns = new ArrayList<>();
+    private UUID[] owners = new UUID[INITIAL_CAPACITY];
+    private int[] freeSlots = new int[INITIAL_CAPACITY];
+    private int freeCount;
+    private int capacity = INITIAL_CAPACITY;
+    // Slots below this have been handed out at least once.
+    private int highWater;
+
+    void start() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            acquire(player.getUniqueId());
+        }
+    }
+
+    void stop() {
+        slots.clear();
+        Arrays.fill(owners, null);
+        freeCount = 0;
+        highWater = 0;
+        for (Column column : columns) {
+            Arrays.fill(column.values, 0L);
+        }
+    }
+
+    /**
+     * Creates a column that grows with the slot table.
+     */
+    Column newColumn() {
+        Column column = new Column(capacity);
+        columns.add(column);
+        return column;
+    }
+
+    /**
+     * @return the player's slot, or {@code -1} if they have none
+     */
+    int slotOf(UUID playerId) {
+        Integer slot = slots.get(playerId);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * @return the player's slot, assigning one if they have none
+     */
+    int acquire(UUID playerId) {
+        Integer existing = slots.get(playerId);
+        if (existing != null) {
+            return existing;
+        }
+
+        int slot;
+        if (freeCount > 0) {
+            slot = freeSlots[--freeCount];
+        } else {
+            if (highWater == capacity) {
+                grow();
+            }
+            slot = highWater++;
+        }
+        slots.put(playerId, slot);
+        owners[slot] = playerId;
+        return slot;
+    }
+
+    /**
+     * @return the player holding the slot
+     */
+    UUID ownerOf(int slot) {
+        return owners[slot];
+    }
+
+    /**
+     * @return number of assigned slots
+     */
+    int size() {
+        return slots.size();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        acquire(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        release(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Zeroes a player's slot in every column and makes it available to the next player.
+     */
+    void release(UUID playerId) {
+        Integer slot = slots.remove(playerId);
+        if (slot == null) {
+            return;
+        }
+        owners[slot] = null;
+        for (Column column : columns) {
+            column.values[slot] = 0L;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    private void grow() {
+        capacity *= 2;
+        owners = Arrays.copyOf(owners, capacity);
+        for (Column column : columns) {
+            column.values = Arrays.copyOf(column.values, capacity);
+        }
+    }
+
+    /**
+     * One primitive {@code long} per player slot.
+     */
+    final class Column {
+        private long[] values;
+
+        private Column(int capacity) {
+            values = new long[capacity];
+        }
+
+        /**
+         * @return the slot's value, or {@code 0} for slot {@code -1}
+         */
+        long get(int slot) {
+            return slot < 0 ? 0L : values[slot];
+        }
+
+        void set(int slot, long value) {
+            values[slot] = value;
+        }
+
+        void clear(int slot) {
+            if (slot >= 0) {
+                values[slot] = 0L;
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Publishes an immutable per-player state snapshot for readers on other threads.
+ *
+ * <p>Scoreboard and tab-list plugins often resolve placeholders asynchronously.
+ * The dash and Amulet state lives in main-thread maps, so the main thread copies
+ * it here once per tick. A snapshot stores absolute deadlines rather than
+ * remaining seconds, so it stays accurate between publications, and a new
+ * snapshot is only allocated when a value actually changed.</p>
+ */
+final class PlayerSnapshots implements Listener {
+
+    private final CelestialDash plugin;
+    private final Map<UUID, PlayerSnapshot> snapshots = new ConcurrentHashMap<>();
+    private BukkitTask task;
+
+    PlayerSnapshots(CelestialDash plugin) {
+        this.plugin = plugin;
+    }
+
+    void start() {
+        if (task != null) {
+            task.cancel();
+        }
+        publishAll();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::publishAll, 1L, 1L);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        snapshots.clear();
+    }
+
+    /**
+     * Returns the last published snapshot. Safe to call from any thread.
+     *
+     * @return the snapshot, or {@code null} for a player that is not online
+     */
+    PlayerSnapshot get(UUID uuid) {
+        return snapshots.get(uuid);
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        publish(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        snapshots.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void publishAll() {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            publish(player);
+        }
+    }
+
+    private void publish(Player player) {
+        UUID uuid = player.getUniqueId();
+        DashHandler dashHandler = plugin.getDashHandler();
+        int tears = plugin.getTearCounter().count(player);
+        long dashReadyAtMs = dashHandler.getDashReadyAtMs(uuid);
+        long comboWindowEndMs = dashHandler.getComboWindowEndMs(uuid);
+        long amuletReadyAtMs = plugin.getAmuletHandler().getCooldownReadyAtMs(uuid);
+
+        PlayerSnapshot current = snapshots.get(uuid);
+        if (current != null
+                && current.tears() == tears
+                && current.dashReadyAtMs() == dashReadyAtMs
+                && current.comboWindowEndMs() == comboWindowEndMs
+                && current.amuletReadyAtMs() == amuletReadyAtMs) {
+            return;
+        }
+        snapshots.put(uuid, new PlayerSnapshot(tears, dashReadyAtMs, comboWindowEndMs, amuletReadyAtMs));
+    }
+
+    /**
+     * @param dashReadyAtMs time the dash cooldown ends, or 0 without a cooldown
+     * @param comboWindowEndMs time the double-dash window closes, or 0 without an open window
+     * @param amuletReadyAtMs time the Amulet cooldown ends, or 0 without a cooldown
+     */
+    record PlayerSnapshot(int tears, long dashReadyAtMs, long comboWindowEndMs, long amuletReadyAtMs) {
+
+        long remainingDashCooldownSeconds(long nowMs) {
+            return remainingSeconds(dashReadyAtMs, nowMs);
+        }
+
+        boolean isInDoubleDashWindow(long nowMs) {
+            return comboWindowEndMs != 0L && nowMs <= comboWindowEndMs;
+        }
+
+        long remainingAmuletCooldownSeconds(long nowMs) {
+            return remainingSeconds(amuletReadyAtMs, nowMs);
+        }
+
+        private static long remainingSeconds(long readyAtMs, long nowMs) {
+            if (readyAtMs <= nowMs) {
+                return 0L;
+            }
+            return (long) Math.ceil((readyAtMs - nowMs) / 1000.0);
+        }
+    }
+}
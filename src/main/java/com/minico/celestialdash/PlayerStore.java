@@ -0,0 +1,27 @@
+package com.minico.celestialdash;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Storage backend for {@link PlayerProfiles}.
+ *
+ * <p>A profile is a flat map of named {@code long} values. Implementations are called
+ * from the profile writer thread and from async pre-login threads, never from the
+ * main thread except while the plugin enables or disables, and must be thread-safe.</p>
+ */
+interface PlayerStore {
+
+    /**
+     * @return the stored profile, or an empty map for a player who has none
+     */
+    Map<String, Long> load(UUID playerId) throws IOException;
+
+    /**
+     * Replaces the stored profiles of the given players in one batch.
+     */
+    void saveAll(Map<UUID, Map<String, Long>> profiles) throws IOException;
+
+    void close();
+}
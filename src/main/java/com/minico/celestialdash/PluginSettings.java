@@ -30,9 +30,30 @@ public final class PluginSettings {
     private static final int MAX_TRAIL_DURATION_TICKS = 1_200;
     private static final int MAX_TRAIL_INTERVAL_TICKS = 200;
     private static final int MAX_FALL_IMMUNITY_TICKS = 1_200;
+    private static final double MAX_PARTICLE_VIEW_DISTANCE = 128.0;
+    private static final double MAX_LIGHTNING_DROP_RADIUS = 128.0;
+    private static final int MAX_DROPS_PER_SECOND = 10_000;
+    private static final int MAX_DROPS_PER_MINUTE = 600_000;
+    private static final int MAX_PARTICLE_PACKETS_PER_VIEWER = 64;
     private static final int MAX_GIVE_AMOUNT = 2_304;
+    private static final double MAX_GOVERNOR_TICK_MS = 1_000.0;
+    private static final int MAX_GOVERNOR_RECOVERY_SECONDS = 600;
     private static final int DEFAULT_TEAR_CACHE_MAX_ENTRIES = 256;
     private static final int MAX_TEAR_CACHE_ENTRIES = 10_000;
+    private static final double MAX_GROUND_TEAR_MERGE_RADIUS = 16.0;
+    private static final int MAX_GROUND_TEARS_PER_CHUNK = 256;
+    private static final int MAX_GROUND_TEAR_LIFETIME_SECONDS = 300;
+    private static final double MAX_VIRTUAL_TEAR_PICKUP_RADIUS = 8.0;
+    private static final int MAX_VIRTUAL_TEARS_PER_PLAYER = 256;
+    private static final double MAX_TEAR_MAGNET_RADIUS = 16.0;
+    private static final double MAX_TEAR_MAGNET_STRENGTH = 2.0;
+    private static final int MAX_TEAR_MAGNET_INTERVAL_TICKS = 100;
+    private static final int MAX_DROP_PLACEMENT_RADIUS = 16;
+    private static final int MAX_DROP_PLACEMENT_ATTEMPTS = 64;
+    private static final int MIN_COOLDOWN_JOURNAL_FLUSH_MS = 50;
+    private static final int MAX_COOLDOWN_JOURNAL_FLUSH_MS = 60_000;
+    private static final int MIN_STORAGE_FLUSH_MS = 100;
+    private static final int MAX_STORAGE_FLUSH_MS = 600_000;
     private static final String DEFAULT_RESOURCE_PACK_URL = "https://your-domain/CelestialDash-Resource-Pack.zip";
     private static final String DEFAULT_RESOURCE_PACK_PROMPT = "&bThis server uses the CelestialDash resource pack.";
     private static final String AMULET_PURIFIABLE_EFFECTS_PATH = "celestial-amulet.purifiable-effects";
@@ -57,6 +78,13 @@ public final class PluginSettings {
     private final ResourcePackSettings resourcePack;
     private final ChronicleSettings chronicle;
     private final PlaceholderSettings placeholders;
+    private final CosmeticGovernorSettings cosmeticGovernor;
+    private final GroundTearSettings groundTears;
+    private final VirtualTearSettings virtualTears;
+    private final TearMagnetSettings tearMagnet;
+    private final DropPlacementSettings dropPlacement;
+    private final CooldownJournalSettings cooldownJournal;
+    private final StorageSettings storage;
 
     private PluginSettings(DropSettings drops,
                            DashSettings dash,
@@ -65,7 +93,14 @@ public final class PluginSettings {
                            AmuletSettings amulet,
                            ResourcePackSettings resourcePack,
                            ChronicleSettings chronicle,
-                           PlaceholderSettings placeholders) {
+                           PlaceholderSettings placeholders,
+                           CosmeticGovernorSettings cosmeticGovernor,
+                           GroundTearSettings groundTears,
+                           VirtualTearSettings virtualTears,
+                           TearMagnetSettings tearMagnet,
+                           DropPlacementSettings dropPlacement,
+                           CooldownJournalSettings cooldownJournal,
+                           StorageSettings storage) {
         this.drops = drops;
         this.dash = dash;
         this.tearCustomModelData = tearCustomModelData;
@@ -74,20 +109,29 @@ public final class PluginSettings {
         this.resourcePack = resourcePack;
         this.chronicle = chronicle;
         this.placeholders = placeholders;
+        this.cosmeticGovernor = cosmeticGovernor;
+        this.groundTears = groundTears;
+        this.virtualTears = virtualTears;
+        this.tearMagnet = tearMagnet;
+        this.dropPlacement = dropPlacement;
+        this.cooldownJournal = cooldownJournal;
+        this.storage = storage;
     }
 
     public static PluginSettings defaults() {
         return new PluginSettings(
-                new DropSettings(0.03, 60_000L, Set.of(), DropDeliveryMode.GROUND),
+                new DropSettings(0.03, 60_000L, Set.of(), DropDeliveryMode.GROUND, DropMode.POLLING, 16.0, 300_000L, 0, 0),
                 new DashSettings(
                         10_000L,
                         1.8,
                         0.4,
                         5 * 20,
                         0,
-                        new ParticleSettings(true, Particle.CLOUD, 40, 0.4, 0.5, 0.4, 0.02),
+                        new ParticleSettings(true, Particle.CLOUD, 40, 0.4, 0.5, 0.4, 0.02,
+                                new ViewerCullingSettings(false, 32.0, 12.0, 4)),
                         new SoundSettings(true, Sound.ENTITY_PHANTOM_FLAP, 1.2f, 0.6f),
-                        new TrailSettings(true, Particle.CLOUD, 20, 0.3, 0.4, 0.3, 0.01, 10, 1),
+                        new TrailSettings(true, Particle.CLOUD, 20, 0.3, 0.4, 0.3, 0.01, 10, 1,
+                                new ViewerCullingSettings(false, 24.0, 8.0, 2)),
                         new DoubleDashSettings(true, 4_000L, 40, 1.2, 1.1),
                         Set.of()
                 ),
@@ -102,7 +146,14 @@ public final class PluginSettings {
                         DEFAULT_RESOURCE_PACK_PROMPT
                 ),
                 new ChronicleSettings(true, true, true, 300_000L),
-                new PlaceholderSettings(DEFAULT_TEAR_CACHE_MAX_ENTRIES)
+                new PlaceholderSettings(DEFAULT_TEAR_CACHE_MAX_ENTRIES),
+                new CosmeticGovernorSettings(true, 45.0, 50.0, 60.0, 5.0, 10, 50),
+                new GroundTearSettings(2.0, 16, MAX_GROUND_TEAR_LIFETIME_SECONDS),
+                new VirtualTearSettings(1.5, 16),
+                new TearMagnetSettings(true, 6.0, 0.3, 4),
+                new DropPlacementSettings(DropPlacement.EXACT, 4, 8),
+                new CooldownJournalSettings(false, 1_000L),
+                new StorageSettings(StorageBackend.PDC, 5_000L)
         );
     }
 
@@ -127,7 +178,16 @@ public final class PluginSettings {
                 getBoundedLong(config, logger, "drop-cooldown-seconds", previousDrops.cooldownMs() / 1_000L,
                         MAX_COOLDOWN_SECONDS) * 1_000L,
                 loadBlacklistedWorlds(config, "drop-blacklist-worlds"),
-                getDropDeliveryMode(config, logger)
+                getDropDeliveryMode(config, logger),
+                getDropMode(config, logger),
+                getBoundedDouble(config, logger, "lightning-drop-radius", previousDrops.lightningRadius(),
+                        MAX_LIGHTNING_DROP_RADIUS),
+                getBoundedLong(config, logger, "drop-afk-threshold-seconds", previousDrops.afkThresholdMs() / 1_000L,
+                        MAX_COOLDOWN_SECONDS) * 1_000L,
+                getBoundedInt(config, logger, "drop-rate-limit.per-second", previousDrops.rateLimitPerSecond(),
+                        0, MAX_DROPS_PER_SECOND),
+                getBoundedInt(config, logger, "drop-rate-limit.per-minute", previousDrops.rateLimitPerMinute(),
+                        0, MAX_DROPS_PER_MINUTE)
         );
 
         int trailDurationTicks = getBoundedInt(config, logger, "trail-duration-ticks", previousTrail.durationTicks(),
@@ -157,7 +217,8 @@ public final class PluginSettings {
                         getBoundedDouble(config, logger, "dash-particle-offset-z", previousImpactParticle.offsetZ(),
                                 MAX_PARTICLE_OFFSET),
                         getBoundedDouble(config, logger, "dash-particle-speed", previousImpactParticle.speed(),
-                                MAX_PARTICLE_SPEED)
+                                MAX_PARTICLE_SPEED),
+                        loadViewerCulling(config, logger, "dash-particle-culling", previousImpactParticle.culling())
                 ),
                 new SoundSettings(
                         config.getBoolean("dash-sound-enabled", previousSound.enabled()),
@@ -174,7 +235,8 @@ public final class PluginSettings {
                         getBoundedDouble(config, logger, "trail-offset-z", previousTrail.offsetZ(), MAX_PARTICLE_OFFSET),
                         getBoundedDouble(config, logger, "trail-speed", previousTrail.speed(), MAX_PARTICLE_SPEED),
                         trailDurationTicks,
-                        trailIntervalTicks
+                        trailIntervalTicks,
+                        loadViewerCulling(config, logger, "trail-culling", previousTrail.culling())
                 ),
                 new DoubleDashSettings(
                         config.getBoolean("double-dash.enabled", previousDoubleDash.enabled()),
@@ -223,8 +285,79 @@ public final class PluginSettings {
                         fallback.placeholders.tearCacheMaxEntries(), 1, MAX_TEAR_CACHE_ENTRIES)
         );
 
+        CosmeticGovernorSettings previousGovernor = fallback.cosmeticGovernor;
+        double reducedTickMs = getBoundedDouble(config, logger, "cosmetic-governor.reduced-mspt",
+                previousGovernor.reducedTickMs(), MAX_GOVERNOR_TICK_MS);
+        double selfOnlyTickMs = Math.max(reducedTickMs, getBoundedDouble(config, logger,
+                "cosmetic-governor.self-only-mspt", previousGovernor.selfOnlyTickMs(), MAX_GOVERNOR_TICK_MS));
+        double offTickMs = Math.max(selfOnlyTickMs, getBoundedDouble(config, logger,
+                "cosmetic-governor.off-mspt", previousGovernor.offTickMs(), MAX_GOVERNOR_TICK_MS));
+        CosmeticGovernorSettings cosmeticGovernor = new CosmeticGovernorSettings(
+                config.getBoolean("cosmetic-governor.enabled", previousGovernor.enabled()),
+                reducedTickMs,
+                selfOnlyTickMs,
+                offTickMs,
+                getBoundedDouble(config, logger, "cosmetic-governor.recovery-margin-mspt",
+                        previousGovernor.recoveryMarginMs(), MAX_GOVERNOR_TICK_MS),
+                getBoundedInt(config, logger, "cosmetic-governor.recovery-seconds",
+                        previousGovernor.recoverySeconds(), 1, MAX_GOVERNOR_RECOVERY_SECONDS),
+                getBoundedInt(config, logger, "cosmetic-governor.reduced-count-percent",
+                        previousGovernor.reducedCountPercent(), 1, 100)
+        );
+
+        GroundTearSettings previousGroundTears = fallback.groundTears;
+        GroundTearSettings groundTears = new GroundTearSettings(
+                getBoundedDouble(config, logger, "ground-tears.merge-radius",
+                        previousGroundTears.mergeRadius(), MAX_GROUND_TEAR_MERGE_RADIUS),
+                getBoundedInt(config, logger, "ground-tears.max-per-chunk",
+                        previousGroundTears.maxPerChunk(), 1, MAX_GROUND_TEARS_PER_CHUNK),
+                getBoundedInt(config, logger, "ground-tears.lifetime-seconds",
+                        previousGroundTears.lifetimeSeconds(), 1, MAX_GROUND_TEAR_LIFETIME_SECONDS)
+        );
+
+        VirtualTearSettings virtualTears = new VirtualTearSettings(
+                getBoundedDouble(config, logger, "virtual-tears.pickup-radius",
+                        fallback.virtualTears.pickupRadius(), MAX_VIRTUAL_TEAR_PICKUP_RADIUS),
+                getBoundedInt(config, logger, "virtual-tears.max-per-player",
+                        fallback.virtualTears.maxPerPlayer(), 1, MAX_VIRTUAL_TEARS_PER_PLAYER)
+        );
+
+        TearMagnetSettings previousMagnet = fallback.tearMagnet;
+        TearMagnetSettings tearMagnet = new TearMagnetSettings(
+                config.getBoolean("tear-magnet.enabled", previousMagnet.enabled()),
+                getBoundedDouble(config, logger, "tear-magnet.radius",
+                        previousMagnet.radius(), MAX_TEAR_MAGNET_RADIUS),
+                getBoundedDouble(config, logger, "tear-magnet.strength",
+                        previousMagnet.strength(), MAX_TEAR_MAGNET_STRENGTH),
+                getBoundedInt(config, logger, "tear-magnet.interval-ticks",
+                        previousMagnet.intervalTicks(), 1, MAX_TEAR_MAGNET_INTERVAL_TICKS)
+        );
+
+        DropPlacementSettings previousPlacement = fallback.dropPlacement;
+        DropPlacementSettings dropPlacement = new DropPlacementSettings(
+                getDropPlacement(config, logger, previousPlacement.mode()),
+                getBoundedInt(config, logger, "drop-placement.search-radius",
+                        previousPlacement.searchRadius(), 0, MAX_DROP_PLACEMENT_RADIUS),
+                getBoundedInt(config, logger, "drop-placement.max-attempts",
+                        previousPlacement.maxAttempts(), 1, MAX_DROP_PLACEMENT_ATTEMPTS)
+        );
+
+        CooldownJournalSettings cooldownJournal = new CooldownJournalSettings(
+                config.getBoolean("cooldown-journal.enabled", fallback.cooldownJournal.enabled()),
+                getBoundedInt(config, logger, "cooldown-journal.flush-interval-ms",
+                        (int) fallback.cooldownJournal.flushIntervalMs(),
+                        MIN_COOLDOWN_JOURNAL_FLUSH_MS, MAX_COOLDOWN_JOURNAL_FLUSH_MS)
+        );
+
+        StorageSettings storage = new StorageSettings(
+                getStorageBackend(config, logger, fallback.storage.backend()),
+                getBoundedInt(config, logger, "storage.flush-interval-ms",
+                        (int) fallback.storage.flushIntervalMs(), MIN_STORAGE_FLUSH_MS, MAX_STORAGE_FLUSH_MS)
+        );
+
         return new PluginSettings(drops, dash, tearCustomModelData, giveMaxAmount, amulet, resourcePack, chronicle,
-                placeholders);
+                placeholders, cosmeticGovernor, groundTears, virtualTears, tearMagnet, dropPlacement, cooldownJournal,
+                storage);
     }
 
     public DropSettings drops() {
@@ -259,6 +392,34 @@ public final class PluginSettings {
         return placeholders;
     }
 
+    public CosmeticGovernorSettings cosmeticGovernor() {
+        return cosmeticGovernor;
+    }
+
+    public GroundTearSettings groundTears() {
+        return groundTears;
+    }
+
+    public VirtualTearSettings virtualTears() {
+        return virtualTears;
+    }
+
+    public TearMagnetSettings tearMagnet() {
+        return tearMagnet;
+    }
+
+    public DropPlacementSettings dropPlacement() {
+        return dropPlacement;
+    }
+
+    public CooldownJournalSettings cooldownJournal() {
+        return cooldownJournal;
+    }
+
+    public StorageSettings storage() {
+        return storage;
+    }
+
     private static String getString(FileConfiguration config, String path, String fallback) {
         String value = config.getString(path);
         return value == null ? fallback : value;
@@ -275,6 +436,22 @@ public final class PluginSettings {
         return worlds;
     }
 
+    private static ViewerCullingSettings loadViewerCulling(FileConfiguration config,
+                                                           Logger logger,
+                                                           String path,
+                                                           ViewerCullingSettings previous) {
+        double viewDistance = getBoundedDouble(config, logger, path + ".view-distance", previous.viewDistance(),
+                MAX_PARTICLE_VIEW_DISTANCE);
+        return new ViewerCullingSettings(
+                config.getBoolean(path + ".enabled", previous.enabled()),
+                viewDistance,
+                getBoundedDouble(config, logger, path + ".full-detail-distance",
+                        Math.min(previous.fullDetailDistance(), viewDistance), viewDistance),
+                getBoundedInt(config, logger, path + ".packets-per-viewer-per-tick",
+                        previous.packetsPerViewerPerTick(), 1, MAX_PARTICLE_PACKETS_PER_VIEWER)
+        );
+    }
+
     private static DropDeliveryMode getDropDeliveryMode(FileConfiguration config, Logger logger) {
         String value = config.getString("drop-delivery", DropDeliveryMode.GROUND.name());
         try {
@@ -285,6 +462,36 @@ public final class PluginSettings {
         }
     }
 
+    private static DropMode getDropMode(FileConfiguration config, Logger logger) {
+        String value = config.getString("drop-mode", DropMode.POLLING.name());
+        try {
+            return DropMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            logger.warning("Invalid drop-mode: " + value + ", using POLLING");
+            return DropMode.POLLING;
+        }
+    }
+
+    private static DropPlacement getDropPlacement(FileConfiguration config, Logger logger, DropPlacement fallback) {
+        String value = config.getString("drop-placement.mode", fallback.name());
+        try {
+            return DropPlacement.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            logger.warning("Invalid drop-placement.mode: " + value + ", using " + fallback.name());
+            return fallback;
+        }
+    }
+
+    private static StorageBackend getStorageBackend(FileConfiguration config, Logger logger, StorageBackend fallback) {
+        String value = config.getString("storage.backend", fallback.name());
+        try {
+            return StorageBackend.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException exception) {
+            logger.warning("Invalid storage.backend: " + value + ", using " + fallback.name());
+            return fallback;
+        }
+    }
+
     private static Set<PotionEffectType> loadPurifiableEffects(FileConfiguration config, Logger logger) {
         if (!config.contains(AMULET_PURIFIABLE_EFFECTS_PATH)) {
             return DEFAULT_PURIFIABLE_EFFECTS;
@@ -434,17 +641,55 @@ public final class PluginSettings {
 
     public enum DropDeliveryMode {
         GROUND,
-        INVENTORY
+        INVENTORY,
+        VIRTUAL
+    }
+
+    /**
+     * How storm drops are decided: {@code POLLING} rolls the chance for every eligible
+     * player once per second, {@code SCHEDULED} samples each player's next drop time
+     * directly from the chance, and {@code SHARDED} rolls once per second like polling
+     * but spreads the players across the ticks of each second. {@code LIGHTNING} does not
+     * roll at all; each natural lightning strike awards a Tear to the eligible players
+     * near it.
+     */
+    public enum DropMode {
+        POLLING,
+        SCHEDULED,
+        SHARDED,
+        LIGHTNING
+    }
+
+    /**
+     * Where a {@code GROUND} storm drop is placed: {@code EXACT} drops it at the player's
+     * location, {@code SAFE} searches nearby columns off the main thread for solid ground
+     * away from lava, water and the void.
+     */
+    public enum DropPlacement {
+        EXACT,
+        SAFE
+    }
+
+    public enum StorageBackend {
+        PDC,
+        SQLITE,
+        MEMORY
     }
 
     public record DropSettings(double chance,
                                long cooldownMs,
                                Set<String> blacklistedWorlds,
-                               DropDeliveryMode deliveryMode) {
+                               DropDeliveryMode deliveryMode,
+                               DropMode mode,
+                               double lightningRadius,
+                               long afkThresholdMs,
+                               int rateLimitPerSecond,
+                               int rateLimitPerMinute) {
 
         public DropSettings {
             blacklistedWorlds = Set.copyOf(blacklistedWorlds);
             deliveryMode = deliveryMode == null ? DropDeliveryMode.GROUND : deliveryMode;
+            mode = mode == null ? DropMode.POLLING : mode;
         }
 
         public boolean isWorldBlacklisted(String worldName) {
@@ -478,7 +723,8 @@ public final class PluginSettings {
                                    double offsetX,
                                    double offsetY,
                                    double offsetZ,
-                                   double speed) {
+                                   double speed,
+                                   ViewerCullingSettings culling) {
     }
 
     public record SoundSettings(boolean enabled, Sound sound, float volume, float pitch) {
@@ -492,7 +738,14 @@ public final class PluginSettings {
                                 double offsetZ,
                                 double speed,
                                 int durationTicks,
-                                int intervalTicks) {
+                                int intervalTicks,
+                                ViewerCullingSettings culling) {
+    }
+
+    public record ViewerCullingSettings(boolean enabled,
+                                        double viewDistance,
+                                        double fullDetailDistance,
+                                        int packetsPerViewerPerTick) {
     }
 
     public record DoubleDashSettings(boolean enabled,
@@ -535,4 +788,31 @@ public final class PluginSettings {
 
     public record PlaceholderSettings(int tearCacheMaxEntries) {
     }
+
+    public record CosmeticGovernorSettings(boolean enabled,
+                                           double reducedTickMs,
+                                           double selfOnlyTickMs,
+                                           double offTickMs,
+                                           double recoveryMarginMs,
+                                           int recoverySeconds,
+                                           int reducedCountPercent) {
+    }
+
+    public record GroundTearSettings(double mergeRadius, int maxPerChunk, int lifetimeSeconds) {
+    }
+
+    public record VirtualTearSettings(double pickupRadius, int maxPerPlayer) {
+    }
+
+    public record TearMagnetSettings(boolean enabled, double radius, double strength, int intervalTicks) {
+    }
+
+    public record DropPlacementSettings(DropPlacement mode, int searchRadius, int maxAttempts) {
+    }
+
+    public record CooldownJournalSettings(boolean enabled, long flushIntervalMs) {
+    }
+
+    public record StorageSettings(StorageBackend backend, long flushIntervalMs) {
+    }
 }
@@ -0,0 +1,217 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Places {@code GROUND} storm drops on safe ground when {@code drop-placement.mode} is {@code SAFE}.
+ *
+ * <p>The main thread picks up to {@code drop-placement.max-attempts} candidate
+ * columns within {@code drop-placement.search-radius} of the player, starting with
+ * the player's own, and copies only the blocks of each column that the search can
+ * look at: its heightmap value and the few blocks around the player's height. The
+ * copied columns are then checked on an async task, and the main thread spawns the
+ * Tear at the chosen block. If no column has solid ground with room above it near
+ * the player's height, the Tear is dropped at the player's location as before.</p>
+ */
+final class SafeDropPlacer {
+
+    // Ground is searched this many blocks above and below the player's feet.
+    private static final int VERTICAL_RANGE = 4;
+    // Blocks copied per column: the searched range plus the two blocks of headroom above its top.
+    private static final int COLUMN_HEIGHT = 2 * VERTICAL_RANGE + 3;
+    private static final int NO_GROUND = Integer.MIN_VALUE;
+
+    // Blocks that destroy, swallow or carry away a dropped item.
+    private static final Set<Material> HAZARDS = EnumSet.of(
+            Material.LAVA,
+            Material.WATER,
+            Material.BUBBLE_COLUMN,
+            Material.FIRE,
+            Material.SOUL_FIRE,
+            Material.MAGMA_BLOCK,
+            Material.CAMPFIRE,
+            Material.SOUL_CAMPFIRE,
+            Material.CACTUS,
+            Material.SWEET_BERRY_BUSH,
+            Material.POWDER_SNOW,
+            Material.POINTED_DRIPSTONE,
+            Material.HOPPER
+    );
+
+    private final CelestialDash plugin;
+
+    SafeDropPlacer(CelestialDash plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Drops Tears for a player, on safe ground near them when safe placement is enabled.
+     */
+    void drop(Player player, ItemStack tears) {
+        Location origin = player.getLocation();
+        World world = origin.getWorld();
+        PluginSettings.DropPlacementSettings settings = plugin.getSettings().dropPlacement();
+        if (settings.mode() != PluginSettings.DropPlacement.SAFE || world == null) {
+            plugin.getGroundTears().drop(player, origin, tears);
+            return;
+        }
+
+        int originY = origin.getBlockY();
+        int[][] columns = candidateColumns(origin.getBlockX(), origin.getBlockZ(),
+                settings.searchRadius(), settings.maxAttempts(), ThreadLocalRandom.current());
+        BlockView view = capture(world, columns, originY);
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            int[] spot = findSafeSpot(view, columns, originY);
+            if (plugin.isEnabled()) {
+                Bukkit.getScheduler().runTask(plugin, () -> place(player, origin, spot, tears));
+            }
+        });
+    }
+
+    /**
+     * Picks a column near the origin whose ground is solid, harmless and open above.
+     *
+     * @return block coordinates to drop at, or {@code null} if every attempt failed
+     */
+    static int[] findSafeSpot(BlockView view, int originX, int originY, int originZ,
+                              int radius, int maxAttempts, RandomGenerator random) {
+        return findSafeSpot(view, candidateColumns(originX, originZ, radius, maxAttempts, random), originY);
+    }
+
+    /**
+     * @return the {@code x, z} of each column to try, the origin's first
+     */
+    static int[][] candidateColumns(int originX, int originZ, int radius, int maxAttempts, RandomGenerator random) {
+        int[][] columns = new int[maxAttempts][];
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            int x = originX;
+            int z = originZ;
+            if (attempt > 0 && radius > 0) {
+                x += random.nextInt(-radius, radius + 1);
+                z += random.nextInt(-radius, radius + 1);
+            }
+            columns[attempt] = new int[]{x, z};
+        }
+        return columns;
+    }
+
+    private static int[] findSafeSpot(BlockView view, int[][] columns, int originY) {
+        for (int[] column : columns) {
+            int groundY = findGround(view, column[0], originY, column[1]);
+            if (groundY != NO_GROUND) {
+                return new int[]{column[0], groundY + 1, column[1]};
+            }
+        }
+        return null;
+    }
+
+    private static int findGround(BlockView view, int x, int originY, int z) {
+        int top = Math.min(originY + VERTICAL_RANGE, view.highestBlockY(x, z));
+        for (int y = top; y >= originY - VERTICAL_RANGE; y--) {
+            Material ground = view.type(x, y, z);
+            if (isPassable(ground)) {
+                continue;
+            }
+            if (!isPassable(view.type(x, y + 1, z)) || !isPassable(view.type(x, y + 2, z))) {
+                // Inside a wall or under a ceiling; keep looking lower.
+                continue;
+            }
+            // This is where a falling item would land, so a hazard rules out the column.
+            return HAZARDS.contains(ground) ? NO_GROUND : y;
+        }
+        return NO_GROUND;
+    }
+
+    private static boolean isPassable(Material type) {
+        return !type.isSolid() && !HAZARDS.contains(type);
+    }
+
+    /**
+     * Copies the blocks the search can reach in each candidate column. Columns in unloaded
+     * chunks are left out, so they are never loaded for a drop and are simply not candidates.
+     */
+    private static BlockView capture(World world, int[][] columns, int originY) {
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
+        int lowestY = originY - VERTICAL_RANGE;
+        Map<Long, Column> captured = new HashMap<>();
+        for (int[] candidate : columns) {
+            int x = candidate[0];
+            int z = candidate[1];
+            // Block columns pack their coordinates the same way chunks do.
+            long key = ChunkIndex.chunkKey(x, z);
+            if (captured.containsKey(key) || !world.isChunkLoaded(x >> 4, z >> 4)) {
+                continue;
+            }
+            Material[] types = new Material[COLUMN_HEIGHT];
+            for (int index = 0; index < COLUMN_HEIGHT; index++) {
+                int y = lowestY + index;
+                // Below the world is the void, which no drop survives.
+                types[index] = y < minY ? Material.LAVA : y >= maxY ? Material.AIR : world.getType(x, y, z);
+            }
+            captured.put(key, new Column(world.getHighestBlockYAt(x, z), types));
+        }
+        return new ColumnView(captured, lowestY);
+    }
+
+    private void place(Player player, Location origin, int[] spot, ItemStack tears) {
+        World world = origin.getWorld();
+        if (world == null || Bukkit.getWorld(world.getUID()) == null) {
+            return;
+        }
+        if (spot == null) {
+            plugin.getDropMetrics().recordPlacementFallback();
+            plugin.getGroundTears().drop(player, origin, tears);
+            return;
+        }
+        plugin.getGroundTears().drop(player, new Location(world, spot[0] + 0.5, spot[1], spot[2] + 0.5), tears);
+    }
+
+    /**
+     * Read-only block types around a drop, safe to use off the main thread.
+     */
+    interface BlockView {
+
+        /**
+         * @return a Y at or above the column's highest non-air block, or {@link Integer#MIN_VALUE}
+         *         if the column was not captured
+         */
+        int highestBlockY(int x, int z);
+
+        Material type(int x, int y, int z);
+    }
+
+    private record ColumnView(Map<Long, Column> columns, int lowestY) implements BlockView {
+
+        @Override
+        public int highestBlockY(int x, int z) {
+            Column column = columns.get(ChunkIndex.chunkKey(x, z));
+            return column == null ? NO_GROUND : column.highestY();
+        }
+
+        @Override
+        public Material type(int x, int y, int z) {
+            Column column = columns.get(ChunkIndex.chunkKey(x, z));
+            int index = y - lowestY;
+            if (column == null || index < 0 || index >= column.types().length) {
+                return Material.AIR;
+            }
+            return column.types()[index];
+        }
+    }
+
+    private record Column(int highestY, Material[] types) {
+    }
+}
@@ -0,0 +1,112 @@
+package com.minico.celestialdash;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Stores profiles in a single SQLite file through the JDBC driver bundled with the server.
+ *
+ * <p>One connection is shared and every call holds its lock, which suits SQLite's single
+ * writer. A batch of profiles is written in one transaction.</p>
+ */
+final class SqlitePlayerStore implements PlayerStore {
+
+    private static final String DRIVER = "org.sqlite.JDBC";
+
+    private final Connection connection;
+
+    private SqlitePlayerStore(Connection connection) {
+        this.connection = connection;
+    }
+
+    static SqlitePlayerStore open(Path file) throws IOException {
+        try {
+            Class.forName(DRIVER);
+        } catch (ClassNotFoundException exception) {
+            throw new IOException("The server does not bundle the SQLite JDBC driver", exception);
+        }
+        try {
+            Connection connection = DriverManager.getConnection("jdbc:sqlite:" + file.toAbsolutePath());
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA journal_mode=WAL");
+                statement.execute("PRAGMA synchronous=NORMAL");
+                statement.execute("CREATE TABLE IF NOT EXISTS player_values ("
+                        + "player_id TEXT NOT NULL, "
+                        + "name TEXT NOT NULL, "
+                        + "value INTEGER NOT NULL, "
+                        + "PRIMARY KEY (player_id, name))");
+            }
+            return new SqlitePlayerStore(connection);
+        } catch (SQLException exception) {
+            throw new IOException("Could not open " + file, exception);
+        }
+    }
+
+    @Override
+    public synchronized Map<String, Long> load(UUID playerId) throws IOException {
+        Map<String, Long> profile = new HashMap<>();
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT name, value FROM player_values WHERE player_id = ?")) {
+            select.setString(1, playerId.toString());
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    profile.put(rows.getString(1), rows.getLong(2));
+                }
+            }
+        } catch (SQLException exception) {
+            throw new IOException("Could not load the profile of " + playerId, exception);
+        }
+        return profile;
+    }
+
+    @Override
+    public synchronized void saveAll(Map<UUID, Map<String, Long>> profiles) throws IOException {
+        try {
+            connection.setAutoCommit(false);
+            try (PreparedStatement delete = connection.prepareStatement(
+                    "DELETE FROM player_values WHERE player_id = ?");
+                 PreparedStatement insert = connection.prepareStatement(
+                         "INSERT INTO player_values (player_id, name, value) VALUES (?, ?, ?)")) {
+                for (Map.Entry<UUID, Map<String, Long>> profile : profiles.entrySet()) {
+                    String playerId = profile.getKey().toString();
+                    delete.setString(1, playerId);
+                    delete.addBatch();
+                    for (Map.Entry<String, Long> value : profile.getValue().entrySet()) {
+                        insert.setString(1, playerId);
+                        insert.setString(2, value.getKey());
+                        insert.setLong(3, value.getValue());
+                        insert.addBatch();
+                    }
+                }
+                delete.executeBatch();
+                insert.executeBatch();
+                connection.commit();
+            } catch (SQLException exception) {
+                connection.rollback();
+                throw exception;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException exception) {
+            throw new IOException("Could not save " + profiles.size() + " profiles", exception);
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            connection.close();
+        } catch (SQLException ignored) {
+            // The file is consistent after every committed batch.
+        }
+    }
+}
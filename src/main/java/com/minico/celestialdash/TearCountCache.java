@@ -0,0 +1,193 @@
+package com.minico.celestialdash;
+
+import java.lang.invoke.VarHandle;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, lock-free cache of formatted Tear counts for placeholder requests.
+ *
+ * <p>The cache is a fixed array of reusable slots, one per allowed entry. A player
+ * maps to a short window of neighbouring slots, so a lookup inspects at most
+ * {@value #WAYS} slots and no request ever takes a shared lock. Each slot is
+ * guarded by its own version counter: readers retry nothing and simply treat a
+ * slot that changed under them as a miss, and a writer that loses the race for a
+ * slot skips caching instead of waiting. When every slot in the window is live,
+ * the least recently written one is replaced, which approximates least-recently-cached
+ * eviction.</p>
+ *
+ * <p>An entry holds the count it was formatted from and only answers a request for
+ * that same count, so it never serves a value older than the published snapshot.
+ * Counts up to {@value #SMALL_COUNT_LIMIT} are formatted once and shared, so
+ * refreshing a typical entry allocates nothing.</p>
+ */
+final class TearCountCache {
+
+    private static final int WAYS = 4;
+    private static final int SMALL_COUNT_LIMIT = 1024;
+    private static final String[] SMALL_COUNTS = new String[SMALL_COUNT_LIMIT + 1];
+
+    static {
+        for (int count = 0; count <= SMALL_COUNT_LIMIT; count++) {
+            SMALL_COUNTS[count] = String.valueOf(count).intern();
+        }
+    }
+
+    private final LongSupplier nanoTime;
+    private final IntSupplier maxEntries;
+    // Replaced as a whole when the configured size changes after a reload.
+    private volatile Slot[] slots;
+
+    /**
+     * @param nanoTime orders entries for eviction only; entries never expire by age
+     */
+    TearCountCache(LongSupplier nanoTime, IntSupplier maxEntries) {
+        this.nanoTime = nanoTime;
+        this.maxEntries = maxEntries;
+        this.slots = newSlots(maxEntries.getAsInt());
+    }
+
+    /**
+     * Returns the cached text for the player's count, or formats and caches it.
+     *
+     * @param count the player's current Tear total from the published snapshot
+     */
+    String get(UUID playerId, int count) {
+        Slot[] table = currentSlots();
+        long most = playerId.getMostSignificantBits();
+        long least = playerId.getLeastSignificantBits();
+        int start = Math.floorMod(playerId.hashCode(), table.length);
+        int ways = Math.min(WAYS, table.length);
+
+        for (int way = 0; way < ways; way++) {
+            String cached = table[(start + way) % table.length].read(most, least, count);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String formatted = format(count);
+        store(table, start, ways, most, least, count, formatted, nanoTime.getAsLong());
+        return formatted;
+    }
+
+    /**
+     * @return number of occupied slots; never more than the configured maximum
+     */
+    int size() {
+        int size = 0;
+        for (Slot slot : slots) {
+            if (!slot.isFree()) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    static String format(int count) {
+        return count >= 0 && count <= SMALL_COUNT_LIMIT ? SMALL_COUNTS[count] : String.valueOf(count);
+    }
+
+    private void store(Slot[] table, int start, int ways, long most, long least, int count, String value, long now) {
+        Slot target = null;
+        for (int way = 0; way < ways; way++) {
+            Slot slot = table[(start + way) % table.length];
+            if (slot.holds(most, least)) {
+                // The player's count changed; refresh their entry in place.
+                target = slot;
+                break;
+            }
+            if (target == null) {
+                target = slot;
+                continue;
+            }
+            if (target.isFree()) {
+                continue;
+            }
+            if (slot.isFree() || slot.cachedAtNanos() - target.cachedAtNanos() < 0L) {
+                target = slot;
+            }
+        }
+        if (target != null) {
+            target.write(most, least, count, value, now);
+        }
+    }
+
+    private Slot[] currentSlots() {
+        Slot[] table = slots;
+        int configured = Math.max(1, maxEntries.getAsInt());
+        if (table.length != configured) {
+            table = newSlots(configured);
+            slots = table;
+        }
+        return table;
+    }
+
+    private static Slot[] newSlots(int capacity) {
+        Slot[] table = new Slot[Math.max(1, capacity)];
+        for (int index = 0; index < table.length; index++) {
+            table[index] = new Slot();
+        }
+        return table;
+    }
+
+    /**
+     * One cache entry, reused for the lifetime of the table. An odd version means a
+     * write is in progress.
+     */
+    private static final class Slot {
+        private final AtomicInteger version = new AtomicInteger();
+        private long most;
+        private long least;
+        private int count;
+        private long cachedAtNanos;
+        private String value;
+
+        String read(long expectedMost, long expectedLeast, int expectedCount) {
+            int before = version.get();
+            if ((before & 1) != 0) {
+                return null;
+            }
+            long slotMost = most;
+            long slotLeast = least;
+            int slotCount = count;
+            String slotValue = value;
+            VarHandle.acquireFence();
+            if (version.get() != before || slotValue == null) {
+                return null;
+            }
+            if (slotMost != expectedMost || slotLeast != expectedLeast || slotCount != expectedCount) {
+                return null;
+            }
+            return slotValue;
+        }
+
+        boolean holds(long expectedMost, long expectedLeast) {
+            return value != null && most == expectedMost && least == expectedLeast;
+        }
+
+        boolean isFree() {
+            return value == null;
+        }
+
+        long cachedAtNanos() {
+            return cachedAtNanos;
+        }
+
+        void write(long newMost, long newLeast, int newCount, String newValue, long now) {
+            int current = version.get();
+            if ((current & 1) != 0 || !version.compareAndSet(current, current + 1)) {
+                // Another thread is writing this slot; caching is optional, so give up.
+                return;
+            }
+            most = newMost;
+            least = newLeast;
+            count = newCount;
+            cachedAtNanos = now;
+            value = newValue;
+            version.set(current + 2);
+        }
+    }
+}
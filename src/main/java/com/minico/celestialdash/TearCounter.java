@@ -0,0 +1,264 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.ClickType;
+import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemConsumeEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each online player's Celestial Tear total up to date without scanning
+ * the inventory on every read.
+ *
+ * <p>Changes with an exact known size, such as dropping a Tear stack, consuming a
+ * Tear for a dash or receiving Tears from the plugin, adjust the total directly.
+ * Inventory clicks, drags, pickups, crafting and deaths only mark the player, and
+ * each marked player's inventory is counted once at the end of the tick no matter
+ * how many events touched it. A slow background pass also recounts every player
+ * once per rescan period to correct changes that fire no event, such as items
+ * given by other plugins.</p>
+ */
+final class TearCounter implements Listener {
+
+    /**
+     * Every tracked player is recounted once per this many ticks.
+     */
+    private static final int RESCAN_PERIOD_TICKS = 100;
+
+    private final CelestialDash plugin;
+    // Read from placeholder threads; entries are added and removed on the main thread only.
+    private final Map<UUID, TrackedCount> counts = new ConcurrentHashMap<>();
+    private final Set<TrackedCount> dirty = new HashSet<>();
+    private final List<List<TrackedCount>> rescanBuckets = new ArrayList<>(RESCAN_PERIOD_TICKS);
+    private int rescanBucket;
+    private long driftCorrections;
+    private BukkitTask task;
+
+    TearCounter(CelestialDash plugin) {
+        this.plugin = plugin;
+        for (int bucket = 0; bucket < RESCAN_PERIOD_TICKS; bucket++) {
+            rescanBuckets.add(new ArrayList<>());
+        }
+    }
+
+    void start() {
+        if (task != null) {
+            task.cancel();
+        }
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            track(player);
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        counts.clear();
+        dirty.clear();
+        rescanBuckets.forEach(List::clear);
+    }
+
+    /**
+     * Returns the player's Tear total. Safe to call from any thread.
+     */
+    int count(Player player) {
+        TrackedCount tracked = counts.get(player.getUniqueId());
+        if (tracked != null) {
+            return tracked.count;
+        }
+        // Players are tracked from join; only a main-thread caller may scan an untracked inventory.
+        return Bukkit.isPrimaryThread() ? TearUtils.countTears(player) : 0;
+    }
+
+    /**
+     * Applies a change of known size, for example Tears added or removed by this plugin.
+     */
+    void adjust(Player player, int delta) {
+        TrackedCount tracked = counts.get(player.getUniqueId());
+        if (tracked != null && delta != 0) {
+            tracked.count = Math.max(0, tracked.count + delta);
+        }
+    }
+
+    /**
+     * Recounts the player's inventory at the end of the current tick.
+     */
+    void markDirty(Player player) {
+        TrackedCount tracked = counts.get(player.getUniqueId());
+        if (tracked != null) {
+            dirty.add(tracked);
+        }
+    }
+
+    /**
+     * Recounts the player's inventory immediately.
+     */
+    void recount(Player player) {
+        TrackedCount tracked = counts.get(player.getUniqueId());
+        if (tracked != null) {
+            tracked.count = TearUtils.countTears(player);
+        }
+    }
+
+    /**
+     * @return how many background rescans found a total that differed from the tracked one
+     */
+    long driftCorrections() {
+        return driftCorrections;
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        track(event.getPlayer());
+    }
+
+    @EventHandler
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        TrackedCount tracked = counts.remove(event.getPlayer().getUniqueId());
+        if (tracked != null) {
+            dirty.remove(tracked);
+            rescanBuckets.get(tracked.bucket).remove(tracked);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onInventoryClick(InventoryClickEvent event) {
+        HumanEntity clicker = event.getWhoClicked();
+        if (!(clicker instanceof Player player)) {
+            return;
+        }
+
+        boolean involvesTear = TearUtils.isCelestialTear(event.getCurrentItem())
+                || TearUtils.isCelestialTear(event.getCursor());
+        if (!involvesTear && event.getHotbarButton() >= 0) {
+            involvesTear = TearUtils.isCelestialTear(player.getInventory().getItem(event.getHotbarButton()));
+        }
+        if (!involvesTear && event.getClick() == ClickType.SWAP_OFFHAND) {
+            involvesTear = TearUtils.isCelestialTear(player.getInventory().getItemInOffHand());
+        }
+        if (involvesTear) {
+            markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (event.getWhoClicked() instanceof Player player && TearUtils.isCelestialTear(event.getOldCursor())) {
+            markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onPickup(EntityPickupItemEvent event) {
+        // A full inventory may leave part of the stack on the ground, so the change is counted.
+        if (event.getEntity() instanceof Player player && TearUtils.isCelestialTear(event.getItem().getItemStack())) {
+            markDirty(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onDrop(PlayerDropItemEvent event) {
+        ItemStack dropped = event.getItemDrop().getItemStack();
+        if (TearUtils.isCelestialTear(dropped)) {
+            adjust(event.getPlayer(), -dropped.getAmount());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onCraft(CraftItemEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) {
+            return;
+        }
+        for (ItemStack ingredient : event.getInventory().getMatrix()) {
+            if (TearUtils.isCelestialTear(ingredient)) {
+                markDirty(player);
+                return;
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onConsume(PlayerItemConsumeEvent event) {
+        if (TearUtils.isCelestialTear(event.getItem())) {
+            markDirty(event.getPlayer());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onDeath(PlayerDeathEvent event) {
+        markDirty(event.getEntity());
+    }
+
+    private void track(Player player) {
+        UUID uuid = player.getUniqueId();
+        if (counts.containsKey(uuid)) {
+            return;
+        }
+        TrackedCount tracked = new TrackedCount(player, Math.floorMod(uuid.hashCode(), RESCAN_PERIOD_TICKS));
+        tracked.count = TearUtils.countTears(player);
+        counts.put(uuid, tracked);
+        rescanBuckets.get(tracked.bucket).add(tracked);
+    }
+
+    private void tick() {
+        if (!dirty.isEmpty()) {
+            for (TrackedCount tracked : dirty) {
+                tracked.count = TearUtils.countTears(tracked.player);
+            }
+            dirty.clear();
+        }
+
+        for (TrackedCount tracked : rescanBuckets.get(rescanBucket)) {
+            int actual = TearUtils.countTears(tracked.player);
+            if (actual != tracked.count) {
+                tracked.count = actual;
+                driftCorrections++;
+            }
+        }
+        rescanBucket = (rescanBucket + 1) % RESCAN_PERIOD_TICKS;
+    }
+
+    private static final class TrackedCount {
+        private final Player player;
+        private final int bucket;
+        private volatile int count;
+
+        private TrackedCount(Player player, int bucket) {
+            this.player = player;
+            this.bucket = bucket;
+        }
+    }
+}
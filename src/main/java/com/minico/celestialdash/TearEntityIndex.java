@@ -0,0 +1,234 @@
+package com.minico.celestialdash;
+
+import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.ItemDespawnEvent;
+import org.bukkit.event.entity.ItemMergeEvent;
+import org.bukkit.event.entity.ItemSpawnEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.world.EntitiesLoadEvent;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.plugin.Plugin;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Chunk-keyed index of every Celestial Tear item entity in loaded chunks.
+ *
+ * <p>Tears enter the index when they spawn or their chunk's entities load and
+ * leave it when they are picked up, merged, despawned or unloaded, so area
+ * queries never walk the world's entity list. On Paper, Tears removed in any other
+ * way, such as burning in lava, falling into the void or being killed by a
+ * command, leave it at once; elsewhere they are dropped when a query or their
+ * chunk's unload finds them no longer valid. Items drift while they fall or
+ * float; a query re-keys any entity it finds in a different chunk and looks a
+ * few blocks beyond the requested radius so a Tear that drifted is still found.</p>
+ */
+final class TearEntityIndex implements Listener {
+
+    // How far a Tear may drift from the chunk it is indexed under and still be found.
+    private static final double DRIFT_MARGIN = 8.0;
+    private static final String PAPER_REMOVAL_EVENT = "com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent";
+
+    private final ChunkIndex<Item> index = new ChunkIndex<>();
+    private final Map<UUID, IndexedTear> indexed = new HashMap<>();
+
+    /**
+     * Indexes the Tears that already exist, once, when the plugin enables.
+     */
+    void start() {
+        for (World world : Bukkit.getWorlds()) {
+            for (Item item : world.getEntitiesByClass(Item.class)) {
+                track(item);
+            }
+        }
+    }
+
+    void stop() {
+        index.clear();
+        indexed.clear();
+    }
+
+    /**
+     * Untracks every removed Tear through Paper's removal event, when the server has it.
+     */
+    void registerRemovalListener(Plugin plugin) {
+        try {
+            Class.forName(PAPER_REMOVAL_EVENT);
+        } catch (ClassNotFoundException exception) {
+            return;
+        }
+        Bukkit.getPluginManager().registerEvents(new RemovalListener(this), plugin);
+    }
+
+    void track(Item item) {
+        if (indexed.containsKey(item.getUniqueId()) || !TearUtils.isCelestialTear(item.getItemStack())) {
+            return;
+        }
+        Location location = item.getLocation();
+        UUID worldId = location.getWorld().getUID();
+        long chunkKey = chunkKeyOf(location);
+        index.add(worldId, chunkKey, item);
+        indexed.put(item.getUniqueId(), new IndexedTear(item, worldId, chunkKey));
+    }
+
+    void untrack(UUID entityId) {
+        IndexedTear tear = indexed.remove(entityId);
+        if (tear != null) {
+            index.remove(tear.worldId(), tear.chunkKey(), tear.item());
+        }
+    }
+
+    int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Visits the indexed Tears within {@code radius} blocks of {@code center}.
+     *
+     * @return number of indexed entities examined, including those outside the radius
+     */
+    int forEachNear(Location center, double radius, Consumer<Item> action) {
+        World world = center.getWorld();
+        if (world == null || indexed.isEmpty()) {
+            return 0;
+        }
+
+        double radiusSquared = radius * radius;
+        int[] examined = new int[1];
+        index.forEachNear(world.getUID(), center.getX(), center.getZ(), radius + DRIFT_MARGIN, item -> {
+            examined[0]++;
+            if (!item.isValid()) {
+                untrack(item.getUniqueId());
+                return;
+            }
+            Location location = item.getLocation();
+            rekey(item, location);
+            if (world.equals(location.getWorld()) && location.distanceSquared(center) <= radiusSquared) {
+                action.accept(item);
+            }
+        });
+        return examined[0];
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onItemSpawn(ItemSpawnEvent event) {
+        track(event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onEntityPickupItem(EntityPickupItemEvent event) {
+        if (event.getRemaining() == 0) {
+            untrack(event.getItem().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onInventoryPickupItem(InventoryPickupItemEvent event) {
+        untrack(event.getItem().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onItemMerge(ItemMergeEvent event) {
+        untrack(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onItemDespawn(ItemDespawnEvent event) {
+        untrack(event.getEntity().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onEntitiesLoad(EntitiesLoadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item item) {
+                track(item);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onEntitiesUnload(EntitiesUnloadEvent event) {
+        for (Entity entity : event.getEntities()) {
+            if (entity instanceof Item) {
+                untrack(entity.getUniqueId());
+            }
+        }
+        // Tears destroyed without an event of their own, e.g. in lava, are no longer among the entities.
+        Chunk chunk = event.getChunk();
+        List<Item> remaining = List.copyOf(index.get(chunk.getWorld().getUID(),
+                ChunkIndex.chunkKey(chunk.getX(), chunk.getZ())));
+        for (Item item : remaining) {
+            if (!item.isValid()) {
+                untrack(item.getUniqueId());
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    @SuppressWarnings("unused")
+    public void onWorldUnload(WorldUnloadEvent event) {
+        UUID worldId = event.getWorld().getUID();
+        index.removeWorld(worldId);
+        indexed.values().removeIf(tear -> tear.worldId().equals(worldId));
+    }
+
+    private void rekey(Item item, Location location) {
+        IndexedTear current = indexed.get(item.getUniqueId());
+        long chunkKey = chunkKeyOf(location);
+        if (current == null || current.chunkKey() == chunkKey) {
+            return;
+        }
+        index.remove(current.worldId(), current.chunkKey(), item);
+        index.add(current.worldId(), chunkKey, item);
+        indexed.put(item.getUniqueId(), new IndexedTear(item, current.worldId(), chunkKey));
+    }
+
+    private static long chunkKeyOf(Location location) {
+        return ChunkIndex.chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+    }
+
+    private record IndexedTear(Item item, UUID worldId, long chunkKey) {
+    }
+
+    /**
+     * Only loaded on servers that have {@link EntityRemoveFromWorldEvent}.
+     */
+    private static final class RemovalListener implements Listener {
+        private final TearEntityIndex index;
+
+        private RemovalListener(TearEntityIndex index) {
+            this.index = index;
+        }
+
+        @EventHandler(priority = EventPriority.MONITOR)
+        @SuppressWarnings("unused")
+        public void onEntityRemoveFromWorld(EntityRemoveFromWorldEvent event) {
+            // Fires for every removal, including those without an event of their own.
+            if (event.getEntity() instanceof Item) {
+                index.untrack(event.getEntity().getUniqueId());
+            }
+        }
+    }
+}
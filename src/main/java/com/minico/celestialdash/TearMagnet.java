@@ -0,0 +1,92 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+/**
+ * Pulls nearby Tear items toward players with {@code celestialdash.magnet}.
+ *
+ * <p>Every {@code tear-magnet.interval-ticks} ticks each magnet holder queries the
+ * {@link TearEntityIndex}, which only looks at the chunks around them, and gives
+ * the Tears within {@code tear-magnet.radius} a velocity toward them. Vanilla
+ * pickup then collects the Tears once they arrive. While no Tear exists in any
+ * loaded chunk, a pass does no more than check the index size.</p>
+ */
+final class TearMagnet {
+
+    static final String PERMISSION = "celestialdash.magnet";
+
+    private final CelestialDash plugin;
+    private final TearEntityIndex tears;
+    private BukkitTask task;
+
+    TearMagnet(CelestialDash plugin, TearEntityIndex tears) {
+        this.plugin = plugin;
+        this.tears = tears;
+    }
+
+    /**
+     * Schedules the magnet pass for the current settings; also used after a reload.
+     */
+    void start() {
+        stop();
+        PluginSettings.TearMagnetSettings settings = plugin.getSettings().tearMagnet();
+        if (!settings.enabled() || settings.radius() <= 0.0 || settings.strength() <= 0.0) {
+            return;
+        }
+        long interval = settings.intervalTicks();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::pullAll, interval, interval);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    boolean isRunning() {
+        return task != null;
+    }
+
+    /**
+     * Gives every Tear within range of the player a velocity toward them.
+     *
+     * @return number of Tears pulled
+     */
+    int pull(Player player, PluginSettings.TearMagnetSettings settings) {
+        // Aim slightly above the feet so Tears hop over single-block steps.
+        Location target = player.getLocation().add(0.0, 0.5, 0.0);
+        int[] pulled = new int[1];
+        tears.forEachNear(target, settings.radius(), item -> {
+            // Freshly thrown Tears keep their flight, so a holder can still drop them.
+            if (item.getPickupDelay() > 0) {
+                return;
+            }
+            Vector direction = target.toVector().subtract(item.getLocation().toVector());
+            if (direction.lengthSquared() < 0.01) {
+                return;
+            }
+            item.setVelocity(direction.normalize().multiply(settings.strength()));
+            pulled[0]++;
+        });
+        return pulled[0];
+    }
+
+    private void pullAll() {
+        if (tears.size() == 0) {
+            return;
+        }
+
+        PluginSettings.TearMagnetSettings settings = plugin.getSettings().tearMagnet();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (player.getGameMode() != GameMode.SPECTATOR && !player.isDead() && player.hasPermission(PERMISSION)) {
+                pull(player, settings);
+            }
+        }
+    }
+}
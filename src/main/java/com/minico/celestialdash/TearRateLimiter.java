@@ -0,0 +1,107 @@
+package com.minico.celestialdash;
+
+/**
+ * Server-wide token buckets limiting how many storm Tears are created per second and per minute.
+ *
+ * <p>Each bucket holds up to its limit in tokens and refills continuously at the
+ * limit per window, so short bursts up to the limit are allowed while the long-run
+ * rate stays bounded. A Tear needs a token from both buckets. A limit of
+ * {@code 0} disables that bucket.</p>
+ */
+final class TearRateLimiter {
+
+    private static final long SECOND_MS = 1_000L;
+    private static final long MINUTE_MS = 60_000L;
+
+    private final Bucket perSecond = new Bucket();
+    private final Bucket perMinute = new Bucket();
+
+    /**
+     * Applies new limits. Buckets keep their current tokens, capped at the new limit.
+     */
+    void configure(int perSecondLimit, int perMinuteLimit, long nowMs) {
+        perSecond.configure(perSecondLimit, SECOND_MS, nowMs);
+        perMinute.configure(perMinuteLimit, MINUTE_MS, nowMs);
+    }
+
+    /**
+     * Takes one token from each bucket if both have one.
+     *
+     * @return whether a Tear may be created now
+     */
+    boolean tryAcquire(long nowMs) {
+        perSecond.refill(nowMs);
+        perMinute.refill(nowMs);
+        if (!perSecond.hasToken() || !perMinute.hasToken()) {
+            return false;
+        }
+        perSecond.take();
+        perMinute.take();
+        return true;
+    }
+
+    /**
+     * @return whether either bucket is enabled; when neither is, {@link #tryAcquire} always succeeds
+     */
+    boolean isLimited() {
+        return !perSecond.unlimited || !perMinute.unlimited;
+    }
+
+    /**
+     * @return tokens left in the per-second bucket, or {@code -1} when it is disabled
+     */
+    double secondTokens(long nowMs) {
+        return perSecond.available(nowMs);
+    }
+
+    /**
+     * @return tokens left in the per-minute bucket, or {@code -1} when it is disabled
+     */
+    double minuteTokens(long nowMs) {
+        return perMinute.available(nowMs);
+    }
+
+    private static final class Bucket {
+        private boolean unlimited = true;
+        private double capacity;
+        private double refillPerMs;
+        private double tokens;
+        private long lastRefillMs;
+
+        private void configure(int limit, long windowMs, long nowMs) {
+            boolean wasUnlimited = unlimited;
+            unlimited = limit <= 0;
+            capacity = Math.max(0, limit);
+            refillPerMs = capacity / windowMs;
+            // A newly enabled bucket starts full; otherwise the tokens carry over.
+            tokens = wasUnlimited ? capacity : Math.min(tokens, capacity);
+            lastRefillMs = nowMs;
+        }
+
+        private void refill(long nowMs) {
+            if (unlimited || nowMs <= lastRefillMs) {
+                return;
+            }
+            tokens = Math.min(capacity, tokens + (nowMs - lastRefillMs) * refillPerMs);
+            lastRefillMs = nowMs;
+        }
+
+        private boolean hasToken() {
+            return unlimited || tokens >= 1.0;
+        }
+
+        private void take() {
+            if (!unlimited) {
+                tokens -= 1.0;
+            }
+        }
+
+        private double available(long nowMs) {
+            if (unlimited) {
+                return -1.0;
+            }
+            refill(nowMs);
+            return tokens;
+        }
+    }
+}
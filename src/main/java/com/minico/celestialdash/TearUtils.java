@@ -7,7 +7,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
 
@@ -26,13 +25,13 @@ public final class TearUtils {
     private TearUtils() {
     }
 
+    private static NamespacedKey celestialTearKey;
     /**
-     * CustomModelData value applied to newly created Celestial Tears.
-     * <p>
-     * 0 means "disabled": newly created Tears receive no CustomModelData.
+     * Fully built single Tear that new Tears are cloned from, rebuilt when the
+     * CustomModelData setting changes. Never handed out directly.
      */
-    private static int customModelData = 0;
-    private static NamespacedKey celestialTearKey;
+    private static ItemStack prototype;
+    private static TearCounter counter;
 
     /**
      * Initializes the item marker and visual CustomModelData used for new Celestial Tears.
@@ -42,7 +41,15 @@ public final class TearUtils {
      */
     public static void initialize(JavaPlugin plugin, int data) {
         celestialTearKey = new NamespacedKey(plugin, "celestial_tear");
-        customModelData = data;
+        prototype = buildPrototype(celestialTearKey, data);
+    }
+
+    /**
+     * Reports Tears consumed through {@link #tryConsumeTear(Player, int)} to the plugin's
+     * Tear counter. {@code null} detaches it on shutdown.
+     */
+    static void attachCounter(TearCounter tearCounter) {
+        counter = tearCounter;
     }
 
     /**
@@ -50,20 +57,35 @@ public final class TearUtils {
      *
      * @return new ItemStack representing 1 Celestial Tear
      */
-    @SuppressWarnings("deprecation") // Keeps item metadata compatible with the supported server range.
     public static ItemStack createCelestialTear() {
+        ItemStack tear = prototype;
+        if (tear == null) {
+            throw new IllegalStateException("Celestial Tear settings have not been initialized.");
+        }
+        return tear.clone();
+    }
+
+    /**
+     * Creates multiple Celestial Tears with a given amount.
+     *
+     * @param amount stack size
+     * @return ItemStack with the specified amount
+     */
+    public static ItemStack createCelestialTear(int amount) {
+        ItemStack item = createCelestialTear();
+        item.setAmount(amount);
+        return item;
+    }
+
+    @SuppressWarnings("deprecation") // Keeps item metadata compatible with the supported server range.
+    private static ItemStack buildPrototype(NamespacedKey tearKey, int data) {
         ItemStack item = new ItemStack(Material.GHAST_TEAR, 1);
         ItemMeta meta = item.getItemMeta();
         if (meta == null) {
-            // Extremely rare but safe fallback: return a raw Tear without metadata.
+            // Extremely rare but safe fallback: Tears are created without metadata.
             return item;
         }
 
-        NamespacedKey tearKey = celestialTearKey;
-        if (tearKey == null) {
-            throw new IllegalStateException("Celestial Tear settings have not been initialized.");
-        }
-
         // Display name and lore for identification and resource pack hints.
         meta.setDisplayName(ChatColor.AQUA + "Celestial Tear");
         meta.setLore(List.of(
@@ -72,8 +94,8 @@ public final class TearUtils {
         ));
 
         // Optional CustomModelData for resource-pack integration.
-        if (customModelData > 0) {
-            meta.setCustomModelData(customModelData);
+        if (data > 0) {
+            meta.setCustomModelData(data);
         }
 
         meta.getPersistentDataContainer().set(
@@ -86,18 +108,6 @@ public final class TearUtils {
         return item;
     }
 
-    /**
-     * Creates multiple Celestial Tears with a given amount.
-     *
-     * @param amount stack size
-     * @return ItemStack with the specified amount
-     */
-    public static ItemStack createCelestialTear(int amount) {
-        ItemStack item = createCelestialTear();
-        item.setAmount(amount);
-        return item;
-    }
-
     /**
      * Checks whether an ItemStack is considered a Celestial Tear.
      * This method is intentionally strict so we don't accidentally match
@@ -114,21 +124,20 @@ public final class TearUtils {
      * @return true if the stack is a Celestial Tear
      */
     public static boolean isCelestialTear(ItemStack item) {
+        return isCelestialTear(item, ItemDataView.server());
+    }
+
+    static boolean isCelestialTear(ItemStack item, ItemDataView dataView) {
         if (item == null || item.getType() != Material.GHAST_TEAR) {
             return false;
         }
-        if (!item.hasItemMeta()) {
-            return false;
-        }
-
-        ItemMeta meta = item.getItemMeta();
         NamespacedKey tearKey = celestialTearKey;
-        if (meta == null || tearKey == null) {
+        if (tearKey == null) {
             return false;
         }
 
-        PersistentDataContainer data = meta.getPersistentDataContainer();
-        Byte marker = data.get(tearKey, PersistentDataType.BYTE);
+        // Inventory scans call this for every slot, so the marker is read without copying the meta.
+        Byte marker = dataView.read(item, tearKey, PersistentDataType.BYTE);
         return Byte.valueOf((byte) 1).equals(marker);
     }
 
@@ -140,11 +149,17 @@ public final class TearUtils {
      * @return total number of Celestial Tears across all slots
      */
     public static int countTears(Player player) {
-        int count = 0;
         PlayerInventory inv = player.getInventory();
+        return countTears(inv.getContents(), ItemDataView.server());
+    }
 
-        for (ItemStack item : inv.getContents()) {
-            if (isCelestialTear(item)) {
+    /**
+     * Counts the Celestial Tears in the given slots, reading markers through {@code dataView}.
+     */
+    static int countTears(ItemStack[] contents, ItemDataView dataView) {
+        int count = 0;
+        for (ItemStack item : contents) {
+            if (isCelestialTear(item, dataView)) {
                 count += item.getAmount();
             }
         }
@@ -213,6 +228,11 @@ public final class TearUtils {
             item.setAmount(newAmount);
             inv.setItem(slot, item);
         }
+
+        TearCounter tearCounter = counter;
+        if (tearCounter != null) {
+            tearCounter.adjust(player, -1);
+        }
         return true;
     }
 }
@@ -0,0 +1,158 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Renders every active dash trail from one repeating task.
+ *
+ * <p>Trails are stored in parallel arrays that stay densely packed: a finished
+ * trail is replaced by the last active one. Each tick visits exactly the active
+ * trails once, so storms with many simultaneous dashes no longer create and
+ * cancel a scheduler task per dash.</p>
+ */
+final class TrailRenderer {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CelestialDash plugin;
+    private final ParticleEmitter emitter;
+    private Player[] players = new Player[INITIAL_CAPACITY];
+    private int[] elapsedTicks = new int[INITIAL_CAPACITY];
+    private int size;
+    private BukkitTask task;
+
+    TrailRenderer(CelestialDash plugin, ParticleEmitter emitter) {
+        this.plugin = plugin;
+        this.emitter = emitter;
+    }
+
+    void start() {
+        if (task != null) {
+            task.cancel();
+        }
+        task = Bukkit.getScheduler().runTaskTimer(plugin, this::render, 1L, 1L);
+    }
+
+    void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+        clear();
+    }
+
+    /**
+     * Starts a new trail for the player, replacing a trail that is still active.
+     */
+    void add(Player player) {
+        int index = indexOf(player.getUniqueId());
+        if (index < 0) {
+            ensureCapacity(size + 1);
+            index = size++;
+        }
+        players[index] = player;
+        elapsedTicks[index] = 0;
+    }
+
+    void remove(UUID uuid) {
+        int index = indexOf(uuid);
+        if (index >= 0) {
+            removeAt(index);
+        }
+    }
+
+    int activeTrailCount() {
+        return size;
+    }
+
+    private void render() {
+        emitter.beginTick();
+        if (size == 0) {
+            return;
+        }
+
+        PluginSettings.TrailSettings settings = plugin.getSettings().dash().trail();
+        CosmeticGovernor governor = plugin.getCosmeticGovernor();
+        CosmeticGovernor.Tier tier = governor.tier();
+        int index = 0;
+        while (index < size) {
+            Player player = players[index];
+            int elapsed = elapsedTicks[index];
+            if (!player.isOnline() || elapsed >= settings.durationTicks()) {
+                // The swapped-in trail is rendered on this same pass.
+                removeAt(index);
+                continue;
+            }
+
+            if (elapsed % settings.intervalTicks() == 0 && settings.count() > 0 && tier != CosmeticGovernor.Tier.OFF) {
+                Location back = player.getLocation();
+                back.subtract(back.getDirection().normalize().multiply(0.5));
+
+                if (tier.showsSharedEffects()) {
+                    emitter.emit(
+                            player,
+                            back,
+                            settings.particle(),
+                            governor.scaleCount(settings.count()),
+                            settings.offsetX(),
+                            settings.offsetY(),
+                            settings.offsetZ(),
+                            settings.speed(),
+                            settings.culling()
+                    );
+                } else {
+                    // Under heavy load only the dashing player still sees their own trail.
+                    player.spawnParticle(
+                            settings.particle(),
+                            back,
+                            settings.count(),
+                            settings.offsetX(),
+                            settings.offsetY(),
+                            settings.offsetZ(),
+                            settings.speed()
+                    );
+                }
+            }
+
+            elapsedTicks[index] = elapsed + 1;
+            index++;
+        }
+    }
+
+    private int indexOf(UUID uuid) {
+        for (int index = 0; index < size; index++) {
+            if (players[index].getUniqueId().equals(uuid)) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private void removeAt(int index) {
+        int last = --size;
+        players[index] = players[last];
+        elapsedTicks[index] = elapsedTicks[last];
+        // Never retain a Player reference beyond the active range.
+        players[last] = null;
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= players.length) {
+            return;
+        }
+        int capacity = Math.max(required, players.length * 2);
+        players = Arrays.copyOf(players, capacity);
+        elapsedTicks = Arrays.copyOf(elapsedTicks, capacity);
+    }
+
+    private void clear() {
+        Arrays.fill(players, 0, size, null);
+        size = 0;
+    }
+}
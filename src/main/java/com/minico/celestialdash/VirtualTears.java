@@ -0,0 +1,268 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Sound;
+import org.bukkit.World;
+import org.bukkit.entity.Display;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.ItemDisplay;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Transformation;
+import org.joml.AxisAngle4f;
+import org.joml.Vector3f;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Storm Tears that exist only for the player they dropped for.
+ *
+ * <p>With {@code drop-delivery: VIRTUAL} a storm drop is not an item entity. The
+ * plugin remembers where it fell and shows it through a non-persistent
+ * {@link ItemDisplay} that is hidden from everyone but its owner. Display entities
+ * have no physics, never merge and are not saved, so storms add no item ticking.
+ * While any virtual Tear exists, one task per tick compares each owner's position
+ * with their own Tears and moves those within {@code virtual-tears.pickup-radius}
+ * into their inventory. Like a dropped item, a new virtual Tear can only be collected
+ * after a short delay, so a Tear dropped at its owner's feet is seen before it is
+ * picked up.</p>
+ *
+ * <p>Once a player has {@code virtual-tears.max-per-player} virtual Tears, a new drop
+ * joins the nearest one in the same world. If none is in that world, it replaces the
+ * oldest one and takes over its Tears, so nothing is lost.</p>
+ */
+final class VirtualTears implements Listener {
+
+    // Drops this close to an existing virtual Tear join it instead of adding another display.
+    private static final double MERGE_DISTANCE_SQUARED = 1.0;
+    // Matches the pickup delay of an item a player drops.
+    static final int PICKUP_DELAY_TICKS = 40;
+
+    private final CelestialDash plugin;
+    private final BiFunction<Player, Location, Entity> displayFactory;
+    private final Map<UUID, List<VirtualTear>> tearsByOwner = new HashMap<>();
+    private BukkitTask task;
+    // Ticks the collect task has run, which pickup delays are measured in.
+    private long tick;
+
+    VirtualTears(CelestialDash plugin) {
+        this.plugin = plugin;
+        this.displayFactory = this::spawnDisplay;
+    }
+
+    /**
+     * Package-private constructor with a replaceable display for focused tests.
+     */
+    VirtualTears(CelestialDash plugin, BiFunction<Player, Location, Entity> displayFactory) {
+        this.plugin = plugin;
+        this.displayFactory = displayFactory;
+    }
+
+    void stop() {
+        cancelTask();
+        for (List<VirtualTear> tears : tearsByOwner.values()) {
+            tears.forEach(VirtualTear::removeDisplay);
+        }
+        tearsByOwner.clear();
+    }
+
+    /**
+     * Leaves Tears at a location that only {@code owner} can see and collect.
+     */
+    void drop(Player owner, Location location, int amount) {
+        if (location.getWorld() == null || amount <= 0) {
+            return;
+        }
+
+        List<VirtualTear> tears = tearsByOwner.computeIfAbsent(owner.getUniqueId(), ignored -> new ArrayList<>());
+        for (VirtualTear tear : tears) {
+            if (tear.isNear(location, MERGE_DISTANCE_SQUARED)) {
+                tear.amount += amount;
+                return;
+            }
+        }
+        if (tears.size() >= plugin.getSettings().virtualTears().maxPerPlayer()) {
+            VirtualTear nearest = nearest(tears, location);
+            if (nearest != null) {
+                nearest.amount += amount;
+                return;
+            }
+            // Every Tear is in another world; the oldest makes room and its Tears move here.
+            VirtualTear oldest = tears.remove(0);
+            oldest.removeDisplay();
+            amount += oldest.amount;
+        }
+
+        long lifetimeMs = plugin.getSettings().groundTears().lifetimeSeconds() * 1_000L;
+        Entity display = displayFactory.apply(owner, location);
+        tears.add(new VirtualTear(location.clone(), amount, display, System.currentTimeMillis() + lifetimeMs,
+                tick + PICKUP_DELAY_TICKS));
+        if (task == null) {
+            task = Bukkit.getScheduler().runTaskTimer(plugin, this::collectNearbyTears, 1L, 1L);
+        }
+    }
+
+    /**
+     * @return Tears waiting on the ground for the player
+     */
+    int count(UUID ownerId) {
+        List<VirtualTear> tears = tearsByOwner.get(ownerId);
+        if (tears == null) {
+            return 0;
+        }
+        int count = 0;
+        for (VirtualTear tear : tears) {
+            count += tear.amount;
+        }
+        return count;
+    }
+
+    boolean isCollecting() {
+        return task != null;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    @SuppressWarnings("unused")
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        // Nobody else can see or collect them, so they leave with their owner.
+        List<VirtualTear> tears = tearsByOwner.remove(event.getPlayer().getUniqueId());
+        if (tears != null) {
+            tears.forEach(VirtualTear::removeDisplay);
+        }
+        if (tearsByOwner.isEmpty()) {
+            cancelTask();
+        }
+    }
+
+    private void collectNearbyTears() {
+        tick++;
+        long now = System.currentTimeMillis();
+        double radius = plugin.getSettings().virtualTears().pickupRadius();
+        double radiusSquared = radius * radius;
+
+        Iterator<Map.Entry<UUID, List<VirtualTear>>> owners = tearsByOwner.entrySet().iterator();
+        while (owners.hasNext()) {
+            Map.Entry<UUID, List<VirtualTear>> entry = owners.next();
+            Player owner = Bukkit.getPlayer(entry.getKey());
+            Location position = owner == null ? null : owner.getLocation();
+
+            Iterator<VirtualTear> tears = entry.getValue().iterator();
+            while (tears.hasNext()) {
+                VirtualTear tear = tears.next();
+                boolean gone = now >= tear.expiresAtMs
+                        || position != null && tick >= tear.collectableAtTick
+                        && tear.isNear(position, radiusSquared) && collect(owner, tear);
+                if (gone) {
+                    tear.removeDisplay();
+                    tears.remove();
+                }
+            }
+            if (entry.getValue().isEmpty()) {
+                owners.remove();
+            }
+        }
+
+        if (tearsByOwner.isEmpty()) {
+            cancelTask();
+        }
+    }
+
+    /**
+     * @return the Tear closest to the location in its world, or {@code null} if none is in that world
+     */
+    private static VirtualTear nearest(List<VirtualTear> tears, Location location) {
+        VirtualTear nearest = null;
+        double nearestDistanceSquared = Double.MAX_VALUE;
+        for (VirtualTear tear : tears) {
+            if (!tear.location.getWorld().equals(location.getWorld())) {
+                continue;
+            }
+            double distanceSquared = tear.location.distanceSquared(location);
+            if (distanceSquared < nearestDistanceSquared) {
+                nearest = tear;
+                nearestDistanceSquared = distanceSquared;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Moves as much of the Tear as fits into the owner's inventory.
+     *
+     * @return whether the whole Tear was collected
+     */
+    private boolean collect(Player owner, VirtualTear tear) {
+        Map<Integer, ItemStack> leftovers = owner.getInventory().addItem(TearUtils.createCelestialTear(tear.amount));
+        int leftover = 0;
+        for (ItemStack stack : leftovers.values()) {
+            leftover += stack.getAmount();
+        }
+        int collected = tear.amount - leftover;
+        if (collected > 0) {
+            plugin.getTearCounter().adjust(owner, collected);
+            owner.playSound(owner.getLocation(), Sound.ENTITY_ITEM_PICKUP, 0.2f, 1.4f);
+            tear.amount = leftover;
+        }
+        return tear.amount == 0;
+    }
+
+    private void cancelTask() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+
+    private Entity spawnDisplay(Player owner, Location location) {
+        World world = location.getWorld();
+        ItemDisplay display = world.spawn(location.clone().add(0.0, 0.25, 0.0), ItemDisplay.class, entity -> {
+            // Hidden before it is sent to anyone, then revealed to its owner only.
+            entity.setVisibleByDefault(false);
+            entity.setPersistent(false);
+            entity.setItemStack(TearUtils.createCelestialTear());
+            entity.setBillboard(Display.Billboard.VERTICAL);
+            entity.setTransformation(new Transformation(new Vector3f(), new AxisAngle4f(),
+                    new Vector3f(0.5f, 0.5f, 0.5f), new AxisAngle4f()));
+        });
+        owner.showEntity(plugin, display);
+        return display;
+    }
+
+    private static final class VirtualTear {
+        private final Location location;
+        private final Entity display;
+        private final long expiresAtMs;
+        private final long collectableAtTick;
+        private int amount;
+
+        private VirtualTear(Location location, int amount, Entity display, long expiresAtMs, long collectableAtTick) {
+            this.location = location;
+            this.amount = amount;
+            this.display = display;
+            this.expiresAtMs = expiresAtMs;
+            this.collectableAtTick = collectableAtTick;
+        }
+
+        private boolean isNear(Location other, double distanceSquared) {
+            return location.getWorld().equals(other.getWorld()) && location.distanceSquared(other) <= distanceSquared;
+        }
+
+        private void removeDisplay() {
+            if (display != null) {
+                display.remove();
+            }
+        }
+    }
+}
@@ -83,6 +83,16 @@ class CelestialAmuletIntegrationTest {
         }
     }
 
+    @Test
+    void createsAmuletsThatDoNotStackWithEachOther() {
+        ItemStack first = CelestialAmulet.create();
+        ItemStack second = CelestialAmulet.create();
+
+        assertTrue(CelestialAmulet.isCelestialAmulet(first));
+        assertTrue(CelestialAmulet.isCelestialAmulet(second));
+        assertFalse(first.isSimilar(second));
+    }
+
     @Test
     void appliesConfiguredCustomModelDataToNewAmulets() {
         plugin.getConfig().set("celestial-amulet.custom-model-data", 22002);
@@ -260,7 +270,7 @@ class CelestialAmuletIntegrationTest {
         player.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 200, 0));
 
         invokeAmuletUse(amuletHandler, rightClickBlock(player, amulet, Material.STONE));
-        amuletHandler.cleanupExpiredCooldowns(System.currentTimeMillis() + 60_000L);
+        plugin.getCooldowns().advance(System.currentTimeMillis() + 60_000L);
         player.addPotionEffect(new PotionEffect(PotionEffectType.POISON, 200, 0));
 
         invokeAmuletUse(amuletHandler, rightClickBlock(player, amulet, Material.STONE));
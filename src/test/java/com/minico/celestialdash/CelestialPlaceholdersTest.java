@@ -1,7 +1,13 @@
 package com.minico.celestialdash;
 
 import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
 import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,49 +33,84 @@ class CelestialPlaceholdersTest {
     }
 
     @Test
-    void cachesTearCountsUntilTheShortCacheIntervalExpires() {
+    void resolvesTearsFromTheSnapshotPublishedEachTick() {
         AtomicLong clock = new AtomicLong();
-        CelestialPlaceholders placeholders = new CelestialPlaceholders(plugin, clock::get, 100L, 8);
+        CelestialPlaceholders placeholders = new CelestialPlaceholders(plugin, clock::get, 8);
         PlayerMock player = addPlayer();
-        player.getInventory().setItem(0, TearUtils.createCelestialTear(3));
+        setTears(player, 3);
 
         assertEquals("3", placeholders.onPlaceholderRequest(player, "tears"));
 
-        player.getInventory().setItem(0, TearUtils.createCelestialTear(1));
-        assertEquals("3", placeholders.onPlaceholderRequest(player, "tears"));
-
-        clock.addAndGet(100L);
+        setTears(player, 1);
         assertEquals("1", placeholders.onPlaceholderRequest(player, "tears"));
+        assertEquals(1, placeholders.tearCacheSize());
     }
 
     @Test
-    void boundsTheCacheAndPurgesExpiredEntriesWhenItReachesCapacity() {
+    void boundsTheCacheByTheConfiguredCapacity() {
         AtomicLong clock = new AtomicLong();
-        CelestialPlaceholders placeholders = new CelestialPlaceholders(plugin, clock::get, 100L, 2);
+        CelestialPlaceholders placeholders = new CelestialPlaceholders(plugin, clock::get, 2);
 
         PlayerMock first = playerWithTears(1);
         PlayerMock second = playerWithTears(2);
         assertEquals("1", placeholders.onPlaceholderRequest(first, "tears"));
+        clock.incrementAndGet();
         assertEquals("2", placeholders.onPlaceholderRequest(second, "tears"));
         assertEquals(2, placeholders.tearCacheSize());
 
-        clock.addAndGet(100L);
+        clock.incrementAndGet();
         PlayerMock third = playerWithTears(3);
         assertEquals("3", placeholders.onPlaceholderRequest(third, "tears"));
 
-        assertEquals(1, placeholders.tearCacheSize());
+        assertEquals(2, placeholders.tearCacheSize());
+    }
+
+    @Test
+    void resolvesDashStateFromThePublishedSnapshot() {
+        plugin.getConfig().set("dash-cooldown-seconds", 5);
+        plugin.getConfig().set("dash-particle-enabled", false);
+        plugin.getConfig().set("dash-sound-enabled", false);
+        plugin.getConfig().set("trail-enabled", false);
+        plugin.getConfig().set("regen-duration-seconds", 0);
+        plugin.loadSettings();
+        CelestialPlaceholders placeholders = new CelestialPlaceholders(plugin, System::nanoTime, 8);
+        PlayerMock player = addPlayer();
+        player.addAttachment(plugin, "celestialdash.use", true);
+        ItemStack tear = TearUtils.createCelestialTear(2);
+        player.getInventory().setItemInMainHand(tear);
+
+        plugin.getDashHandler().onPlayerUseTear(new PlayerInteractEvent(
+                player, Action.RIGHT_CLICK_AIR, tear, null, BlockFace.SELF, EquipmentSlot.HAND));
+        assertEquals("false", placeholders.onPlaceholderRequest(player, "double_ready"));
+
+        server().getScheduler().performTicks(1L);
+        assertEquals("true", placeholders.onPlaceholderRequest(player, "double_ready"));
+        assertEquals("5", placeholders.onPlaceholderRequest(player, "cooldown"));
+        assertEquals("0", placeholders.onPlaceholderRequest(player, "amulet_cooldown"));
     }
 
     private PlayerMock playerWithTears(int amount) {
         PlayerMock player = addPlayer();
-        player.getInventory().setItem(0, TearUtils.createCelestialTear(amount));
+        setTears(player, amount);
         return player;
     }
 
+    private void setTears(PlayerMock player, int amount) {
+        player.getInventory().setItem(0, TearUtils.createCelestialTear(amount));
+        // Direct inventory writes fire no event, so the tracked total is refreshed explicitly
+        // and published to the placeholder snapshot on the next tick.
+        plugin.getTearCounter().recount(player);
+        server().getScheduler().performTicks(1L);
+    }
+
     private PlayerMock addPlayer() {
+        return server().addPlayer();
+    }
+
+    private ServerMock server() {
         return Objects.requireNonNull(
                 MockBukkit.getMock(),
-                "MockBukkit server must be initialized before adding a player"
-        ).addPlayer();
+                "MockBukkit server must be initialized before using the mock server"
+        );
     }
 }
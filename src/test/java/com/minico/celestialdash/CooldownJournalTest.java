@@ -0,0 +1,90 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownJournalTest {
+
+    private static final Logger LOGGER = Logger.getLogger(CooldownJournalTest.class.getName());
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void replaysFlushedEntriesAfterReopening() throws IOException {
+        UUID playerId = UUID.randomUUID();
+        CooldownJournal journal = new CooldownJournal(directory, LOGGER);
+        assertTrue(journal.open().isEmpty());
+        journal.append(playerId, 1, 1_000L, 11_000L);
+        journal.append(playerId, 2, 2_000L, 62_000L);
+        journal.append(playerId, 1, 5_000L, 15_000L);
+        journal.flush();
+
+        List<CooldownJournal.Entry> entries = new CooldownJournal(directory, LOGGER).open();
+
+        assertEquals(3, entries.size());
+        Map<CooldownJournal.Key, CooldownJournal.Entry> latest = CooldownJournal.latest(entries);
+        assertEquals(2, latest.size());
+        assertEquals(5_000L, latest.get(new CooldownJournal.Key(playerId, 1)).value());
+        assertEquals(2_000L, latest.get(new CooldownJournal.Key(playerId, 2)).value());
+    }
+
+    @Test
+    void unflushedEntriesAreNotReplayed() throws IOException {
+        CooldownJournal journal = new CooldownJournal(directory, LOGGER);
+        journal.open();
+        journal.append(UUID.randomUUID(), 1, 1_000L, 11_000L);
+
+        assertTrue(new CooldownJournal(directory, LOGGER).open().isEmpty());
+    }
+
+    @Test
+    void compactionKeepsOnlyRunningCooldowns() throws IOException {
+        UUID expiredId = UUID.randomUUID();
+        UUID runningId = UUID.randomUUID();
+        CooldownJournal journal = new CooldownJournal(directory, LOGGER);
+        journal.open();
+        journal.append(expiredId, 1, 1_000L, 11_000L);
+        journal.append(runningId, 1, 1_000L, 11_000L);
+        journal.append(runningId, 1, 40_000L, 50_000L);
+        journal.flush();
+
+        journal.compact(20_000L);
+
+        assertEquals(1, journal.writtenRecords());
+        List<CooldownJournal.Entry> entries = new CooldownJournal(directory, LOGGER).open();
+        assertEquals(List.of(new CooldownJournal.Entry(runningId, 1, 40_000L, 50_000L)), entries);
+    }
+
+    @Test
+    void replayStopsAtCorruptedRecord() throws IOException {
+        UUID playerId = UUID.randomUUID();
+        CooldownJournal journal = new CooldownJournal(directory, LOGGER);
+        journal.open();
+        journal.append(playerId, 1, 1_000L, 11_000L);
+        journal.append(playerId, 2, 2_000L, 12_000L);
+        journal.flush();
+
+        // Simulate a torn write by flipping a byte of the second record's value.
+        try (FileChannel channel = FileChannel.open(directory.resolve("cooldowns-a.journal"),
+                StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7F}), 16L + CooldownJournal.RECORD_BYTES + 16L);
+        }
+
+        List<CooldownJournal.Entry> entries = new CooldownJournal(directory, LOGGER).open();
+        assertEquals(List.of(new CooldownJournal.Entry(playerId, 1, 1_000L, 11_000L)), entries);
+    }
+}
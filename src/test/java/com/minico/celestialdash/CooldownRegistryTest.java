@@ -0,0 +1,161 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CooldownRegistryTest {
+
+    private static final long HOUR_MS = 3_600_000L;
+
+    private CelestialDash plugin;
+    private PlayerSlots slots;
+    private CooldownRegistry registry;
+    private long cooldownMs;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        slots = new PlayerSlots();
+        registry = new CooldownRegistry(plugin, slots);
+        cooldownMs = 10_000L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.stop();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void expiresAValueOnceItsDeadlinePasses() {
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + cooldownMs);
+        int slot = slots.acquire(UUID.randomUUID());
+        long now = System.currentTimeMillis();
+        cooldown.set(slot, now);
+
+        registry.advance(now + cooldownMs - 100L);
+        assertEquals(now, cooldown.get(slot));
+        assertEquals(1, cooldown.active());
+
+        registry.advance(now + cooldownMs + 100L);
+        assertEquals(0L, cooldown.get(slot));
+        assertEquals(0, cooldown.active());
+        assertEquals(0, registry.pendingTimers());
+    }
+
+    @Test
+    void cascadesLongDeadlinesDownToTheirTick() {
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + 2L * HOUR_MS);
+        int slot = slots.acquire(UUID.randomUUID());
+        long now = System.currentTimeMillis();
+        cooldown.set(slot, now);
+
+        registry.advance(now + 2L * HOUR_MS - 1_000L);
+        assertEquals(now, cooldown.get(slot));
+
+        registry.advance(now + 2L * HOUR_MS + 100L);
+        assertEquals(0L, cooldown.get(slot));
+    }
+
+    @Test
+    void leavesANewerValueToItsOwnTimer() {
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + cooldownMs);
+        int slot = slots.acquire(UUID.randomUUID());
+        long now = System.currentTimeMillis();
+        cooldown.set(slot, now);
+        cooldown.set(slot, now + 5_000L);
+
+        registry.advance(now + cooldownMs + 100L);
+        assertEquals(now + 5_000L, cooldown.get(slot));
+        assertEquals(1, cooldown.active());
+
+        registry.advance(now + 5_000L + cooldownMs + 100L);
+        assertEquals(0L, cooldown.get(slot));
+    }
+
+    @Test
+    void keepsAValueWhoseCooldownWasLengthenedAfterItWasSet() {
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + cooldownMs);
+        int slot = slots.acquire(UUID.randomUUID());
+        long now = System.currentTimeMillis();
+        cooldown.set(slot, now);
+        cooldownMs = 60_000L;
+
+        registry.advance(now + 30_000L);
+        assertEquals(now, cooldown.get(slot));
+
+        registry.advance(now + 60_100L);
+        assertEquals(0L, cooldown.get(slot));
+    }
+
+    @Test
+    void offloadsARunningCooldownWhileItsPlayerIsAway() {
+        ServerMock server = Objects.requireNonNull(MockBukkit.getMock());
+        server.getPluginManager().registerEvents(slots, plugin);
+        server.getPluginManager().registerEvents(registry, plugin);
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + cooldownMs);
+        PlayerMock player = server.addPlayer();
+        long now = System.currentTimeMillis();
+        cooldown.set(slots.slotOf(player.getUniqueId()), now);
+
+        assertTrue(player.disconnect());
+        assertEquals(-1, slots.slotOf(player.getUniqueId()));
+        assertEquals(0, cooldown.active());
+        assertEquals(0, slots.size());
+
+        assertTrue(player.reconnect());
+        assertEquals(now, cooldown.get(slots.slotOf(player.getUniqueId())));
+
+        registry.advance(now + cooldownMs + 100L);
+        Map<String, String> metrics = new LinkedHashMap<>();
+        registry.appendMetrics(metrics);
+        assertEquals("0", metrics.get("test-cooldowns"));
+        assertEquals("1", metrics.get("cooldowns-expired"));
+    }
+
+    @Test
+    void copiesRunningCooldownsWithoutClearingThem() {
+        CooldownRegistry.Cooldown running = registry.register("test-cooldowns", last -> last + cooldownMs);
+        CooldownRegistry.Cooldown finished = registry.register("other-cooldowns", last -> last + 1L);
+        PlayerMock player = Objects.requireNonNull(MockBukkit.getMock()).addPlayer();
+        long now = System.currentTimeMillis();
+        int slot = slots.acquire(player.getUniqueId());
+        running.set(slot, now);
+        finished.set(slot, now);
+
+        Map<String, Long> values = new HashMap<>();
+        registry.copyRunning(player.getUniqueId(), values, now + 100L);
+
+        assertEquals(Map.of("cooldown.test-cooldowns", now), values);
+        assertEquals(now, running.get(slot));
+    }
+
+    @Test
+    void dropsAnOffloadedCooldownThatExpiredWhileItsPlayerWasAway() {
+        CooldownRegistry.Cooldown cooldown = registry.register("test-cooldowns", last -> last + cooldownMs);
+        PlayerMock player = Objects.requireNonNull(MockBukkit.getMock()).addPlayer();
+        long now = System.currentTimeMillis();
+        cooldown.set(slots.acquire(player.getUniqueId()), now);
+        registry.offload(player, now);
+        slots.release(player.getUniqueId());
+
+        registry.restore(player, now + cooldownMs);
+
+        assertEquals(-1, slots.slotOf(player.getUniqueId()));
+        assertEquals(0, cooldown.active());
+    }
+}
@@ -0,0 +1,66 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CosmeticGovernorTest {
+
+    private static final PluginSettings.CosmeticGovernorSettings SETTINGS =
+            new PluginSettings.CosmeticGovernorSettings(true, 45.0, 50.0, 60.0, 5.0, 3, 50);
+
+    private final AtomicReference<Double> tickTime = new AtomicReference<>(20.0);
+    private final CosmeticGovernor governor = new CosmeticGovernor(() -> SETTINGS, tickTime::get);
+
+    @Test
+    void dropsStraightToTheTierOfTheMeasuredTickTime() {
+        sample(70.0, 5);
+
+        assertEquals(CosmeticGovernor.Tier.OFF, governor.tier());
+    }
+
+    @Test
+    void recoversOneTierAtATimeOnlyAfterTheRecoveryPeriod() {
+        sample(52.0, 5);
+        assertEquals(CosmeticGovernor.Tier.SELF_ONLY, governor.tier());
+
+        // Below the self-only threshold, but not below it by the recovery margin.
+        sample(47.0, 10);
+        assertEquals(CosmeticGovernor.Tier.SELF_ONLY, governor.tier());
+
+        sample(30.0, 2);
+        assertEquals(CosmeticGovernor.Tier.SELF_ONLY, governor.tier());
+        sample(30.0, 1);
+        assertEquals(CosmeticGovernor.Tier.REDUCED, governor.tier());
+
+        sample(30.0, 2);
+        assertEquals(CosmeticGovernor.Tier.REDUCED, governor.tier());
+        sample(30.0, 1);
+        assertEquals(CosmeticGovernor.Tier.FULL, governor.tier());
+    }
+
+    @Test
+    void scalesParticleCountsOnlyInTheReducedTier() {
+        assertEquals(40, governor.scaleCount(40));
+
+        sample(46.0, 5);
+        assertEquals(20, governor.scaleCount(40));
+        assertEquals(1, governor.scaleCount(1));
+    }
+
+    @Test
+    void ignoresUnavailableTickTimes() {
+        sample(Double.NaN, 5);
+
+        assertEquals(CosmeticGovernor.Tier.FULL, governor.tier());
+    }
+
+    private void sample(double tickTimeMs, int evaluations) {
+        tickTime.set(tickTimeMs);
+        for (int evaluation = 0; evaluation < evaluations; evaluation++) {
+            governor.evaluate();
+        }
+    }
+}
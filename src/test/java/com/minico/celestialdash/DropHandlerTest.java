@@ -3,13 +3,18 @@ package com.minico.celestialdash;
 import be.seeseemelk.mockbukkit.MockBukkit;
 import be.seeseemelk.mockbukkit.ServerMock;
 import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.World;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DropHandlerTest {
@@ -34,7 +39,7 @@ class DropHandlerTest {
     @Test
     void keepsTheStormDropCooldownAfterReconnect() {
         PlayerMock player = eligiblePlayer();
-        player.getWorld().setStorm(true);
+        startStorm(player.getWorld());
 
         server().getScheduler().performTicks(20L);
         assertEquals(1, TearUtils.countTears(player));
@@ -49,23 +54,201 @@ class DropHandlerTest {
     @Test
     void removesExpiredStormDropCooldowns() {
         PlayerMock player = eligiblePlayer();
-        player.getWorld().setStorm(true);
+        startStorm(player.getWorld());
 
         server().getScheduler().performTicks(20L);
         assertEquals(1, TearUtils.countTears(player));
 
-        plugin.getDropHandler().cleanupExpiredCooldowns(System.currentTimeMillis() + 60_000L);
+        plugin.getCooldowns().advance(System.currentTimeMillis() + 60_000L);
         server().getScheduler().performTicks(20L);
 
         assertEquals(2, TearUtils.countTears(player));
     }
 
+    @Test
+    void staysIdleUntilAnEligibleWorldStorms() {
+        PlayerMock player = eligiblePlayer();
+        DropHandler dropHandler = plugin.getDropHandler();
+        assertFalse(dropHandler.isDropPassScheduled());
+
+        startStorm(player.getWorld());
+        assertTrue(dropHandler.isDropPassScheduled());
+
+        player.getWorld().setStorm(false);
+        dropHandler.updateStormState(player.getWorld(), false);
+        assertFalse(dropHandler.isDropPassScheduled());
+        server().getScheduler().performTicks(20L);
+
+        assertEquals(0, TearUtils.countTears(player));
+    }
+
+    @Test
+    void doesNotIndexABlacklistedStormingWorld() {
+        PlayerMock player = eligiblePlayer();
+        plugin.getConfig().set("drop-blacklist-worlds", List.of(player.getWorld().getName()));
+        plugin.loadSettings();
+
+        startStorm(player.getWorld());
+        server().getScheduler().performTicks(20L);
+
+        assertEquals(0, plugin.getDropHandler().stormingWorldCount());
+        assertEquals(0, TearUtils.countTears(player));
+    }
+
+    @Test
+    void scheduledModeDropsWhenDueAndKeepsTheCooldownAfterReconnect() {
+        plugin.getConfig().set("drop-mode", "SCHEDULED");
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        PlayerMock player = eligiblePlayer();
+        startStorm(player.getWorld());
+        assertEquals(1, plugin.getDropHandler().scheduledDropCount());
+
+        server().getScheduler().performTicks(20L);
+        assertEquals(1, TearUtils.countTears(player));
+
+        assertTrue(player.disconnect());
+        assertEquals(0, plugin.getDropHandler().scheduledDropCount());
+        assertTrue(player.reconnect());
+        server().getScheduler().performTicks(20L);
+
+        assertEquals(1, TearUtils.countTears(player));
+        assertEquals(1, plugin.getDropHandler().scheduledDropCount());
+    }
+
+    @Test
+    void scheduledModeDisarmsPlayersWhenTheStormEnds() {
+        plugin.getConfig().set("drop-mode", "SCHEDULED");
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        PlayerMock player = eligiblePlayer();
+        startStorm(player.getWorld());
+        assertEquals(1, plugin.getDropHandler().scheduledDropCount());
+
+        player.getWorld().setStorm(false);
+        plugin.getDropHandler().updateStormState(player.getWorld(), false);
+        assertEquals(0, plugin.getDropHandler().scheduledDropCount());
+
+        startStorm(player.getWorld());
+        assertEquals(1, plugin.getDropHandler().scheduledDropCount());
+    }
+
+    @Test
+    void shardedModeRollsEveryPlayerOncePerSecond() {
+        plugin.getConfig().set("drop-mode", "SHARDED");
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        List<PlayerMock> players = new ArrayList<>();
+        for (int index = 0; index < 40; index++) {
+            players.add(eligiblePlayer());
+        }
+        startStorm(players.get(0).getWorld());
+
+        server().getScheduler().performTicks(19L);
+        for (PlayerMock player : players) {
+            // Shards 0 to 18 have run; the last shard is rolled on the twentieth tick.
+            int expected = Math.floorMod(player.getUniqueId().hashCode(), 20) < 19 ? 1 : 0;
+            assertEquals(expected, TearUtils.countTears(player));
+        }
+
+        server().getScheduler().performTicks(1L);
+        for (PlayerMock player : players) {
+            assertEquals(1, TearUtils.countTears(player));
+        }
+    }
+
+    @Test
+    void lightningModeAwardsOnlyPlayersNearTheStrikeAndKeepsTheCooldown() {
+        plugin.getConfig().set("drop-mode", "LIGHTNING");
+        plugin.getConfig().set("lightning-drop-radius", 16);
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        PlayerMock near = eligiblePlayer();
+        PlayerMock far = eligiblePlayer();
+        far.teleport(new Location(far.getWorld(), 500.0, 64.0, 500.0));
+        startStorm(near.getWorld());
+
+        DropHandler dropHandler = plugin.getDropHandler();
+        assertFalse(dropHandler.isDropPassScheduled());
+        assertEquals(2, dropHandler.indexedPlayerCount());
+
+        dropHandler.awardLightningStrike(near.getLocation().add(3.0, 0.0, 3.0));
+        dropHandler.awardLightningStrike(near.getLocation());
+        server().getScheduler().performTicks(20L);
+
+        assertEquals(1, TearUtils.countTears(near));
+        assertEquals(0, TearUtils.countTears(far));
+    }
+
+    @Test
+    void skipsAfkPlayersAndCountsTheSkippedChecks() {
+        plugin.getConfig().set("drop-afk-threshold-seconds", 60);
+        plugin.loadSettings();
+        PlayerMock player = eligiblePlayer();
+        plugin.getActivityTracker().markActive(player, System.currentTimeMillis() - 120_000L);
+        startStorm(player.getWorld());
+
+        server().getScheduler().performTicks(20L);
+        assertEquals(0, TearUtils.countTears(player));
+        assertEquals(1L, plugin.getDropMetrics().idleSkips());
+
+        plugin.getActivityTracker().markActive(player, System.currentTimeMillis());
+        server().getScheduler().performTicks(20L);
+
+        assertEquals(1, TearUtils.countTears(player));
+        assertEquals(1L, plugin.getDropMetrics().idleSkips());
+    }
+
+    @Test
+    void defersDropsOverTheEmissionLimitInsteadOfDiscardingThem() {
+        plugin.getConfig().set("drop-rate-limit.per-second", 0);
+        plugin.getConfig().set("drop-rate-limit.per-minute", 1);
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        PlayerMock first = eligiblePlayer();
+        PlayerMock second = eligiblePlayer();
+        startStorm(first.getWorld());
+
+        server().getScheduler().performTicks(40L);
+
+        assertEquals(1, TearUtils.countTears(first) + TearUtils.countTears(second));
+        assertEquals(1, plugin.getDropHandler().deferredDropCount());
+        // The queued player is not rolled again while waiting.
+        assertEquals(1L, plugin.getDropMetrics().deferrals());
+    }
+
+    @Test
+    void forfeitsAQueuedDropWhenItsPlayerIsNoLongerEligible() {
+        plugin.getConfig().set("drop-rate-limit.per-second", 0);
+        plugin.getConfig().set("drop-rate-limit.per-minute", 1);
+        plugin.loadSettings();
+        plugin.getDropHandler().reload();
+        PlayerMock first = eligiblePlayer();
+        PlayerMock second = eligiblePlayer();
+        startStorm(first.getWorld());
+        server().getScheduler().performTicks(40L);
+        PlayerMock waiting = TearUtils.countTears(first) == 0 ? first : second;
+
+        waiting.addAttachment(plugin, "celestialdash.receive", false);
+        server().getScheduler().performTicks(1L);
+
+        assertEquals(0, plugin.getDropHandler().deferredDropCount());
+        assertEquals(0, TearUtils.countTears(waiting));
+        assertEquals("1", plugin.getDropMetrics().snapshot().get("deferred-drops-forfeited"));
+    }
+
     private PlayerMock eligiblePlayer() {
         PlayerMock player = server().addPlayer();
         player.addAttachment(plugin, "celestialdash.receive", true);
         return player;
     }
 
+    private void startStorm(World world) {
+        world.setStorm(true);
+        // Mirrors the weather-change event for test servers that do not fire it.
+        plugin.getDropHandler().updateStormState(world, true);
+    }
+
     private ServerMock server() {
         return Objects.requireNonNull(
                 MockBukkit.getMock(),
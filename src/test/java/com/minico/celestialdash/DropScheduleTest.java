@@ -0,0 +1,71 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DropScheduleTest {
+
+    @Test
+    void drawsTheSameTrialsFromTheSameSeed() {
+        SplittableRandom first = new SplittableRandom(42L);
+        SplittableRandom second = new SplittableRandom(42L);
+
+        for (int draw = 0; draw < 100; draw++) {
+            assertEquals(DropSchedule.sampleTrials(first, 0.03), DropSchedule.sampleTrials(second, 0.03));
+        }
+    }
+
+    @Test
+    void matchesTheMeanWaitOfOncePerSecondRolls() {
+        SplittableRandom random = new SplittableRandom(7L);
+        double chance = 0.05;
+        int draws = 200_000;
+        long total = 0L;
+        for (int draw = 0; draw < draws; draw++) {
+            total += DropSchedule.sampleTrials(random, chance);
+        }
+
+        // A geometric distribution with success chance p has mean 1 / p.
+        assertEquals(1.0 / chance, (double) total / draws, 0.2);
+    }
+
+    @Test
+    void dropsOnTheFirstEligibleSecondWithACertainChance() {
+        assertEquals(1L, DropSchedule.sampleTrials(new SplittableRandom(1L), 1.0));
+    }
+
+    @Test
+    void returnsOnlyPlayersWhoseDropIsDue() {
+        DropSchedule schedule = new DropSchedule(new SplittableRandom(3L));
+        UUID soon = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        schedule.arm(later, 5_000L, 1.0);
+        schedule.arm(soon, 1_000L, 1.0);
+
+        assertNull(schedule.pollDue(999L));
+        assertEquals(soon, schedule.pollDue(1_000L));
+        assertNull(schedule.pollDue(4_999L));
+        assertEquals(later, schedule.pollDue(5_000L));
+        assertNull(schedule.pollDue(Long.MAX_VALUE));
+    }
+
+    @Test
+    void skipsARemovedPlayer() {
+        DropSchedule schedule = new DropSchedule(new SplittableRandom(3L));
+        UUID player = UUID.randomUUID();
+        schedule.arm(player, 0L, 1.0);
+        assertTrue(schedule.isArmed(player));
+
+        schedule.remove(player);
+
+        assertFalse(schedule.isArmed(player));
+        assertNull(schedule.pollDue(Long.MAX_VALUE));
+    }
+}
@@ -0,0 +1,139 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.WorldMock;
+import org.bukkit.Location;
+import org.bukkit.entity.Item;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GroundTearTrackerTest {
+
+    private CelestialDash plugin;
+    private GroundTearTracker tracker;
+    private WorldMock world;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        tracker = plugin.getGroundTears();
+        world = server().addSimpleWorld("storm");
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void mergesANewDropIntoANearbyTrackedStack() {
+        Location location = new Location(world, 8.0, 64.0, 8.0);
+
+        tracker.drop(location, TearUtils.createCelestialTear());
+        tracker.drop(location, TearUtils.createCelestialTear(2));
+
+        assertEquals(1, tracker.trackedCount());
+        assertEquals(3, totalTears(groundItems()));
+    }
+
+    @Test
+    void fillsExistingStacksOnceTheChunkCapIsReached() {
+        plugin.getConfig().set("ground-tears.merge-radius", 0.0);
+        plugin.getConfig().set("ground-tears.max-per-chunk", 2);
+        plugin.loadSettings();
+        Location location = new Location(world, 8.0, 64.0, 8.0);
+
+        for (int drop = 0; drop < 5; drop++) {
+            tracker.drop(location, TearUtils.createCelestialTear());
+        }
+
+        assertEquals(2, tracker.trackedCount());
+        assertEquals(2, groundItems().size());
+        assertEquals(5, totalTears(groundItems()));
+    }
+
+    @Test
+    void neverSpawnsMoreStacksThanTheChunkCap() {
+        plugin.getConfig().set("ground-tears.merge-radius", 0.0);
+        plugin.getConfig().set("ground-tears.max-per-chunk", 2);
+        plugin.loadSettings();
+        Location location = new Location(world, 8.0, 64.0, 8.0);
+
+        assertEquals(72, tracker.drop(location, TearUtils.createCelestialTear(200)));
+        assertEquals(10, tracker.drop(location, TearUtils.createCelestialTear(10)));
+
+        assertEquals(2, tracker.trackedCount());
+        assertEquals(2, groundItems().size());
+        assertEquals(128, totalTears(groundItems()));
+        Map<String, String> metrics = new HashMap<>();
+        tracker.appendMetrics(metrics);
+        assertEquals("82", metrics.get("ground-tears-over-cap"));
+    }
+
+    @Test
+    void removesStacksWhenTheirLifetimeEnds() {
+        plugin.getConfig().set("ground-tears.lifetime-seconds", 1);
+        plugin.loadSettings();
+        tracker.drop(new Location(world, 8.0, 64.0, 8.0), TearUtils.createCelestialTear(3));
+        assertEquals(1, tracker.trackedCount());
+
+        plugin.getConfig().set("ground-tears.lifetime-seconds", 300);
+        plugin.loadSettings();
+        tracker.removeExpired(System.currentTimeMillis() + 1_000L);
+        assertEquals(1, tracker.trackedCount());
+
+        plugin.getConfig().set("ground-tears.lifetime-seconds", 1);
+        plugin.loadSettings();
+        tracker.removeExpired(System.currentTimeMillis() + 1_000L);
+
+        assertEquals(0, tracker.trackedCount());
+        assertEquals(0, totalTears(groundItems()));
+    }
+
+    @Test
+    void splitsOversizedDropsIntoFullStacks() {
+        tracker.drop(new Location(world, 8.0, 64.0, 8.0), TearUtils.createCelestialTear(130));
+
+        assertEquals(3, tracker.trackedCount());
+        assertEquals(130, totalTears(groundItems()));
+    }
+
+    @Test
+    void purgesOnlyTrackedTears() {
+        Location location = new Location(world, 8.0, 64.0, 8.0);
+        tracker.drop(location, TearUtils.createCelestialTear(4));
+        world.dropItem(location, TearUtils.createCelestialTear());
+
+        assertEquals(4, tracker.purge());
+
+        assertEquals(0, tracker.trackedCount());
+        assertEquals(1, totalTears(groundItems()));
+    }
+
+    private Collection<Item> groundItems() {
+        return world.getEntitiesByClass(Item.class).stream()
+                .filter(Item::isValid)
+                .toList();
+    }
+
+    private static int totalTears(Collection<Item> items) {
+        return items.stream().mapToInt(item -> item.getItemStack().getAmount()).sum();
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}
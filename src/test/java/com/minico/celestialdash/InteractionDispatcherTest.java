@@ -0,0 +1,74 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.EquipmentSlot;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InteractionDispatcherTest {
+
+    private CelestialDash plugin;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        plugin.getConfig().set("dash-cooldown-seconds", 0);
+        plugin.getConfig().set("dash-particle-enabled", false);
+        plugin.getConfig().set("dash-sound-enabled", false);
+        plugin.getConfig().set("trail-enabled", false);
+        plugin.getConfig().set("regen-duration-seconds", 0);
+        plugin.loadSettings();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void routesAMainHandTearClickToTheDash() {
+        PlayerMock player = server().addPlayer();
+        player.addAttachment(plugin, "celestialdash.use", true);
+        ItemStack tear = TearUtils.createCelestialTear(3);
+        player.getInventory().setItemInMainHand(tear);
+
+        server().getPluginManager().callEvent(interact(player, tear, EquipmentSlot.HAND));
+
+        assertEquals(2, Objects.requireNonNull(player.getInventory().getItemInMainHand()).getAmount());
+    }
+
+    @Test
+    void ignoresTearClicksFromTheOffHand() {
+        PlayerMock player = server().addPlayer();
+        player.addAttachment(plugin, "celestialdash.use", true);
+        ItemStack tear = TearUtils.createCelestialTear(3);
+        player.getInventory().setItemInMainHand(tear);
+
+        server().getPluginManager().callEvent(interact(player, tear, EquipmentSlot.OFF_HAND));
+
+        assertEquals(3, Objects.requireNonNull(player.getInventory().getItemInMainHand()).getAmount());
+    }
+
+    private static PlayerInteractEvent interact(PlayerMock player, ItemStack item, EquipmentSlot hand) {
+        return new PlayerInteractEvent(player, Action.RIGHT_CLICK_AIR, item, null, BlockFace.SELF, hand);
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}
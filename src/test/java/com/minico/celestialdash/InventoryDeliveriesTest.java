@@ -0,0 +1,68 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InventoryDeliveriesTest {
+
+    private CelestialDash plugin;
+    private InventoryDeliveries deliveries;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        deliveries = plugin.getInventoryDeliveries();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void deliversQueuedTearsTogetherWithOneMessage() {
+        PlayerMock player = server().addPlayer();
+
+        deliveries.enqueue(player, 1);
+        deliveries.enqueue(player, 1);
+        deliveries.enqueue(player, 1);
+        assertEquals(1, deliveries.pendingCount());
+        assertEquals(0, TearUtils.countTears(player));
+
+        deliveries.flush();
+
+        assertEquals(0, deliveries.pendingCount());
+        assertEquals(3, TearUtils.countTears(player));
+        assertNotNull(player.nextMessage());
+        assertNull(player.nextMessage());
+    }
+
+    @Test
+    void topsUpTheExistingTearStack() {
+        PlayerMock player = server().addPlayer();
+        player.getInventory().setItem(5, TearUtils.createCelestialTear(10));
+
+        deliveries.enqueue(player, 2);
+        deliveries.flush();
+        deliveries.enqueue(player, 1);
+        deliveries.flush();
+
+        assertEquals(13, Objects.requireNonNull(player.getInventory().getItem(5)).getAmount());
+        assertEquals(13, TearUtils.countTears(player));
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(MockBukkit.getMock());
+    }
+}
@@ -0,0 +1,84 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
+import org.bukkit.persistence.PersistentDataType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ItemDataViewTest {
+
+    private static int viewCalls;
+
+    private NamespacedKey key;
+    private ItemStack item;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        key = new NamespacedKey("celestialdash", "marker");
+        item = new ItemStack(Material.GHAST_TEAR);
+        ItemMeta meta = Objects.requireNonNull(item.getItemMeta());
+        meta.getPersistentDataContainer().set(key, PersistentDataType.BYTE, (byte) 1);
+        item.setItemMeta(meta);
+        viewCalls = 0;
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void readsThroughTheDataView() throws NoSuchMethodException {
+        ItemDataView dataView = ItemDataView.of(ItemDataViewTest.class.getDeclaredMethod("view", ItemStack.class));
+
+        assertTrue(dataView.usesDataView());
+        assertEquals((byte) 1, dataView.read(item, key, PersistentDataType.BYTE));
+        assertNull(dataView.read(item, new NamespacedKey("celestialdash", "other"), PersistentDataType.BYTE));
+        assertEquals(2, viewCalls);
+    }
+
+    @Test
+    void copiesTheMetadataWithoutADataView() {
+        ItemDataView dataView = ItemDataView.of(null);
+
+        assertFalse(dataView.usesDataView());
+        assertEquals((byte) 1, dataView.read(item, key, PersistentDataType.BYTE));
+        assertNull(dataView.read(new ItemStack(Material.GHAST_TEAR), key, PersistentDataType.BYTE));
+    }
+
+    @Test
+    void stopsUsingAFailingDataView() throws NoSuchMethodException {
+        ItemDataView dataView = ItemDataView.of(
+                ItemDataViewTest.class.getDeclaredMethod("brokenView", ItemStack.class));
+
+        assertEquals((byte) 1, dataView.read(item, key, PersistentDataType.BYTE));
+        assertEquals((byte) 1, dataView.read(item, key, PersistentDataType.BYTE));
+
+        assertFalse(dataView.usesDataView());
+        assertEquals(1, viewCalls);
+    }
+
+    static PersistentDataContainer view(ItemStack stack) {
+        viewCalls++;
+        return Objects.requireNonNull(stack.getItemMeta()).getPersistentDataContainer();
+    }
+
+    static PersistentDataContainer brokenView(ItemStack stack) {
+        viewCalls++;
+        throw new IllegalStateException("No data view");
+    }
+}
@@ -0,0 +1,51 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParticleEmitterTest {
+
+    @Test
+    void keepsTheFullCountInsideTheFullDetailDistance() {
+        assertEquals(40, ParticleEmitter.scaleCount(40, 0.0, 12.0, 32.0));
+        assertEquals(40, ParticleEmitter.scaleCount(40, 12.0, 12.0, 32.0));
+    }
+
+    @Test
+    void scalesTheCountDownToOneParticleAtTheViewDistance() {
+        assertEquals(20, ParticleEmitter.scaleCount(40, 22.0, 12.0, 32.0));
+        assertEquals(1, ParticleEmitter.scaleCount(40, 32.0, 12.0, 32.0));
+    }
+
+    @Test
+    void limitsPacketsPerViewerUntilTheNextTick() {
+        ParticleEmitter emitter = new ParticleEmitter();
+        UUID viewer = UUID.randomUUID();
+        UUID otherViewer = UUID.randomUUID();
+        emitter.beginTick();
+
+        assertTrue(emitter.tryConsume(viewer, 2));
+        assertTrue(emitter.tryConsume(viewer, 2));
+        assertFalse(emitter.tryConsume(viewer, 2));
+        assertTrue(emitter.tryConsume(otherViewer, 2));
+
+        emitter.beginTick();
+        assertTrue(emitter.tryConsume(viewer, 2));
+    }
+
+    @Test
+    void letsAnEffectWithALargerBudgetUseTheRemainingPackets() {
+        ParticleEmitter emitter = new ParticleEmitter();
+        UUID viewer = UUID.randomUUID();
+        emitter.beginTick();
+
+        assertTrue(emitter.tryConsume(viewer, 1));
+        assertFalse(emitter.tryConsume(viewer, 1));
+        assertTrue(emitter.tryConsume(viewer, 4));
+    }
+}
@@ -0,0 +1,170 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerLoginEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerProfilesTest {
+
+    private ServerMock server;
+    private MemoryPlayerStore store;
+    private PlayerProfiles profiles;
+
+    @BeforeEach
+    void setUp() {
+        server = MockBukkit.mock();
+        store = new MemoryPlayerStore();
+        profiles = new PlayerProfiles(store, Logger.getLogger(PlayerProfilesTest.class.getName()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void loadsTheProfileAtPreLogin() {
+        UUID playerId = UUID.randomUUID();
+        store.saveAll(Map.of(playerId, Map.of("cooldown.dash-cooldowns", 5_000L)));
+
+        profiles.onAsyncPreLogin(new AsyncPlayerPreLoginEvent("Alex", InetAddress.getLoopbackAddress(), playerId));
+        store.saveAll(Map.of(playerId, Map.of()));
+        profiles.onPlayerJoin(new PlayerJoinEvent(new PlayerMock(server, "Alex", playerId), "joined"));
+
+        assertEquals(5_000L, profiles.profile(playerId).get("cooldown.dash-cooldowns"));
+    }
+
+    @Test
+    void savesLeavingPlayersInOneBatch() throws IOException {
+        PlayerMock first = join(UUID.randomUUID());
+        PlayerMock second = join(UUID.randomUUID());
+        profiles.profile(first.getUniqueId()).put("cooldown.drop-cooldowns", 1L);
+        profiles.profile(second.getUniqueId()).put("cooldown.drop-cooldowns", 2L);
+
+        profiles.onPlayerQuit(new PlayerQuitEvent(first, "left"));
+        profiles.onPlayerQuit(new PlayerQuitEvent(second, "left"));
+        assertEquals(2, profiles.queuedCount());
+        profiles.flush();
+
+        assertEquals(1, store.batches());
+        assertEquals(0, profiles.queuedCount());
+        assertNull(profiles.profile(first.getUniqueId()));
+        assertEquals(1L, store.load(first.getUniqueId()).get("cooldown.drop-cooldowns"));
+        assertEquals(2L, store.load(second.getUniqueId()).get("cooldown.drop-cooldowns"));
+    }
+
+    @Test
+    void reconnectingBeforeTheFlushKeepsTheQueuedProfile() {
+        UUID playerId = UUID.randomUUID();
+        PlayerMock player = join(playerId);
+        profiles.profile(playerId).put("received_1_1_7_chronicle", 1L);
+        profiles.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+
+        profiles.onAsyncPreLogin(new AsyncPlayerPreLoginEvent("Alex", InetAddress.getLoopbackAddress(), playerId));
+        join(playerId);
+
+        assertEquals(1L, profiles.profile(playerId).get("received_1_1_7_chronicle"));
+    }
+
+    @Test
+    void queuesOnlineProfilesThatChangedSinceTheirLastCopy() throws IOException {
+        UUID playerId = UUID.randomUUID();
+        join(playerId);
+        profiles.profile(playerId).put("received_1_1_7_chronicle", 1L);
+
+        profiles.queueChangedProfiles();
+        assertEquals(1, profiles.queuedCount());
+        profiles.flush();
+        assertEquals(1L, store.load(playerId).get("received_1_1_7_chronicle"));
+
+        profiles.queueChangedProfiles();
+        assertEquals(0, profiles.queuedCount());
+    }
+
+    @Test
+    void reloadsAPreloadThatStartedBeforeThePreviousSessionWasSaved() throws IOException {
+        UUID playerId = UUID.randomUUID();
+        PlayerMock previous = join(playerId);
+        profiles.profile(playerId).put("received_1_1_7_chronicle", 1L);
+
+        // The new login is loaded while the previous session is still online, then that session is saved.
+        profiles.onAsyncPreLogin(new AsyncPlayerPreLoginEvent("Alex", InetAddress.getLoopbackAddress(), playerId));
+        profiles.onPlayerQuit(new PlayerQuitEvent(previous, "left"));
+        profiles.flush();
+        join(playerId);
+
+        assertEquals(1L, profiles.profile(playerId).get("received_1_1_7_chronicle"));
+    }
+
+    @Test
+    void neverSavesAProfileThatFailedToLoad() throws IOException {
+        UUID playerId = UUID.randomUUID();
+        store.saveAll(Map.of(playerId, Map.of("received_1_1_7_chronicle", 1L)));
+        profiles = new PlayerProfiles(new PlayerStore() {
+            @Override
+            public Map<String, Long> load(UUID id) throws IOException {
+                throw new IOException("Store offline");
+            }
+
+            @Override
+            public void saveAll(Map<UUID, Map<String, Long>> batch) throws IOException {
+                store.saveAll(batch);
+            }
+
+            @Override
+            public void close() {
+            }
+        }, Logger.getLogger(PlayerProfilesTest.class.getName()));
+
+        profiles.onAsyncPreLogin(new AsyncPlayerPreLoginEvent("Alex", InetAddress.getLoopbackAddress(), playerId));
+        PlayerMock player = join(playerId);
+
+        assertNull(profiles.profile(playerId));
+        assertTrue(profiles.isUnavailable(playerId));
+
+        profiles.onPlayerQuit(new PlayerQuitEvent(player, "left"));
+        profiles.flush();
+
+        assertFalse(profiles.isUnavailable(playerId));
+        assertEquals(0, profiles.queuedCount());
+        assertEquals(1L, store.load(playerId).get("received_1_1_7_chronicle"));
+    }
+
+    @Test
+    void refusedLoginsDropTheirPreloadedProfile() {
+        UUID playerId = UUID.randomUUID();
+        profiles.onAsyncPreLogin(new AsyncPlayerPreLoginEvent("Alex", InetAddress.getLoopbackAddress(), playerId));
+        assertEquals(1, profiles.preloadedCount());
+
+        PlayerLoginEvent event = new PlayerLoginEvent(new PlayerMock(server, "Alex", playerId),
+                "localhost", InetAddress.getLoopbackAddress());
+        event.disallow(PlayerLoginEvent.Result.KICK_WHITELIST, "Not whitelisted");
+        profiles.onPlayerLogin(event);
+
+        assertEquals(0, profiles.preloadedCount());
+    }
+
+    private PlayerMock join(UUID playerId) {
+        PlayerMock player = new PlayerMock(server, "Player" + playerId.toString().substring(0, 8), playerId);
+        profiles.onPlayerJoin(new PlayerJoinEvent(player, "joined"));
+        return player;
+    }
+}
@@ -0,0 +1,74 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PlayerSlotsTest {
+
+    private PlayerSlots slots;
+    private PlayerSlots.Column column;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        CelestialDash plugin = MockBukkit.load(CelestialDash.class);
+        slots = plugin.getPlayerSlots();
+        column = slots.newColumn();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void assignsASlotOnJoin() {
+        PlayerMock first = server().addPlayer();
+        PlayerMock second = server().addPlayer();
+
+        int firstSlot = slots.slotOf(first.getUniqueId());
+        assertTrue(firstSlot >= 0);
+        assertNotEquals(firstSlot, slots.slotOf(second.getUniqueId()));
+        assertEquals(firstSlot, slots.acquire(first.getUniqueId()));
+    }
+
+    @Test
+    void recyclesASlotWhenItsPlayerLeaves() {
+        PlayerMock player = server().addPlayer();
+        int slot = slots.slotOf(player.getUniqueId());
+        column.set(slot, 1_000L);
+
+        assertTrue(player.disconnect());
+
+        assertEquals(-1, slots.slotOf(player.getUniqueId()));
+        PlayerMock next = server().addPlayer();
+        assertEquals(slot, slots.slotOf(next.getUniqueId()));
+        assertEquals(0L, column.get(slot));
+    }
+
+    @Test
+    void growsColumnsBeyondTheInitialCapacity() {
+        for (int player = 0; player < 100; player++) {
+            column.set(slots.acquire(UUID.randomUUID()), player + 1L);
+        }
+
+        assertEquals(100, slots.size());
+        assertEquals(1L, column.get(0));
+        assertEquals(100L, column.get(99));
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(MockBukkit.getMock());
+    }
+}
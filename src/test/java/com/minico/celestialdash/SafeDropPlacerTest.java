@@ -0,0 +1,86 @@
+package com.minico.celestialdash;
+
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SafeDropPlacerTest {
+
+    private static final int GROUND_Y = 63;
+
+    @Test
+    void keepsThePlayersColumnWhenItIsSafe() {
+        SafeDropPlacer.BlockView view = flatWorld(Material.GRASS_BLOCK, Material.GRASS_BLOCK);
+
+        int[] spot = SafeDropPlacer.findSafeSpot(view, 0, GROUND_Y + 1, 0, 4, 8, new SplittableRandom(1L));
+
+        assertArrayEquals(new int[]{0, GROUND_Y + 1, 0}, spot);
+    }
+
+    @Test
+    void movesADropOffLavaOntoNearbyGround() {
+        // Lava fills every column with a negative x; the player stands at its edge.
+        SafeDropPlacer.BlockView view = flatWorld(Material.LAVA, Material.STONE);
+
+        int[] spot = SafeDropPlacer.findSafeSpot(view, -1, GROUND_Y + 1, 0, 4, 64, new SplittableRandom(1L));
+
+        assertNotNull(spot);
+        assertEquals(GROUND_Y + 1, spot[1]);
+        assertTrue(spot[0] >= 0);
+    }
+
+    @Test
+    void givesUpAfterTheAttemptLimitOverTheVoid() {
+        SafeDropPlacer.BlockView view = new SafeDropPlacer.BlockView() {
+            @Override
+            public int highestBlockY(int x, int z) {
+                return -64;
+            }
+
+            @Override
+            public Material type(int x, int y, int z) {
+                return Material.AIR;
+            }
+        };
+
+        assertNull(SafeDropPlacer.findSafeSpot(view, 0, GROUND_Y + 1, 0, 4, 8, new SplittableRandom(1L)));
+    }
+
+    @Test
+    void triesThePlayersColumnFirstAndStaysWithinTheRadius() {
+        int[][] columns = SafeDropPlacer.candidateColumns(10, -20, 3, 16, new SplittableRandom(1L));
+
+        assertEquals(16, columns.length);
+        assertArrayEquals(new int[]{10, -20}, columns[0]);
+        for (int[] column : columns) {
+            assertTrue(Math.abs(column[0] - 10) <= 3 && Math.abs(column[1] + 20) <= 3);
+        }
+    }
+
+    /**
+     * A flat world whose ground is {@code west} for negative x and {@code east} otherwise.
+     */
+    private static SafeDropPlacer.BlockView flatWorld(Material west, Material east) {
+        return new SafeDropPlacer.BlockView() {
+            @Override
+            public int highestBlockY(int x, int z) {
+                return GROUND_Y;
+            }
+
+            @Override
+            public Material type(int x, int y, int z) {
+                if (y > GROUND_Y) {
+                    return Material.AIR;
+                }
+                return x < 0 ? west : east;
+            }
+        };
+    }
+}
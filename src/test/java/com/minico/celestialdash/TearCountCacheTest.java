@@ -0,0 +1,78 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TearCountCacheTest {
+
+    @Test
+    void sharesTheFormattedTextOfSmallCounts() {
+        assertSame(TearCountCache.format(12), TearCountCache.format(12));
+        assertEquals("5000", TearCountCache.format(5000));
+    }
+
+    @Test
+    void reusesAnEntryOnlyWhileTheCountIsUnchanged() {
+        TearCountCache cache = new TearCountCache(() -> 0L, () -> 8);
+        UUID playerId = UUID.randomUUID();
+
+        String first = cache.get(playerId, 5_000);
+        assertSame(first, cache.get(playerId, 5_000));
+
+        assertEquals("5001", cache.get(playerId, 5_001));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void neverHoldsMoreEntriesThanTheConfiguredMaximum() {
+        AtomicLong clock = new AtomicLong();
+        TearCountCache cache = new TearCountCache(clock::get, () -> 8);
+
+        for (int player = 0; player < 100; player++) {
+            assertEquals("3", cache.get(UUID.randomUUID(), 3));
+            clock.incrementAndGet();
+        }
+
+        assertTrue(cache.size() <= 8);
+    }
+
+    @Test
+    void replacesTheOldestEntryWhenEverySlotIsLive() {
+        AtomicLong clock = new AtomicLong();
+        TearCountCache cache = new TearCountCache(clock::get, () -> 2);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        String firstText = cache.get(first, 2_000);
+        clock.incrementAndGet();
+        String secondText = cache.get(second, 2_000);
+        clock.incrementAndGet();
+
+        cache.get(UUID.randomUUID(), 3);
+
+        assertEquals(2, cache.size());
+        assertSame(secondText, cache.get(second, 2_000));
+        assertNotSame(firstText, cache.get(first, 2_000));
+    }
+
+    @Test
+    void followsAChangedMaximumAfterAReload() {
+        AtomicLong clock = new AtomicLong();
+        int[] maximum = {4};
+        TearCountCache cache = new TearCountCache(clock::get, () -> maximum[0]);
+        for (int player = 0; player < 4; player++) {
+            cache.get(UUID.randomUUID(), player);
+        }
+
+        maximum[0] = 1;
+        cache.get(UUID.randomUUID(), 7);
+
+        assertEquals(1, cache.size());
+    }
+}
@@ -0,0 +1,91 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.entity.Item;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TearCounterTest {
+
+    private CelestialDash plugin;
+    private TearCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        counter = plugin.getTearCounter();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void subtractsATearConsumedThroughTearUtils() {
+        PlayerMock player = playerWithTears(3);
+
+        assertTrue(TearUtils.tryConsumeTear(player, 0));
+
+        assertEquals(2, counter.count(player));
+    }
+
+    @Test
+    void subtractsADroppedTearStack() {
+        PlayerMock player = playerWithTears(5);
+        player.getInventory().setItem(0, TearUtils.createCelestialTear(3));
+        Item drop = player.getWorld().dropItem(player.getLocation(), TearUtils.createCelestialTear(2));
+
+        server().getPluginManager().callEvent(new PlayerDropItemEvent(player, drop));
+
+        assertEquals(3, counter.count(player));
+    }
+
+    @Test
+    void recountsAMarkedPlayerAtTheEndOfTheTick() {
+        PlayerMock player = playerWithTears(1);
+        player.getInventory().setItem(1, TearUtils.createCelestialTear(4));
+
+        counter.markDirty(player);
+        assertEquals(1, counter.count(player));
+
+        server().getScheduler().performTicks(1L);
+        assertEquals(5, counter.count(player));
+    }
+
+    @Test
+    void correctsChangesThatFiredNoEventDuringThePeriodicRescan() {
+        PlayerMock player = playerWithTears(2);
+        player.getInventory().setItem(1, TearUtils.createCelestialTear(6));
+        assertEquals(2, counter.count(player));
+
+        server().getScheduler().performTicks(100L);
+
+        assertEquals(8, counter.count(player));
+        assertEquals(1L, counter.driftCorrections());
+    }
+
+    private PlayerMock playerWithTears(int amount) {
+        PlayerMock player = server().addPlayer();
+        player.getInventory().setItem(0, TearUtils.createCelestialTear(amount));
+        counter.recount(player);
+        return player;
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}
@@ -0,0 +1,125 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Item;
+import org.bukkit.event.world.EntitiesUnloadEvent;
+import org.bukkit.inventory.ItemStack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TearMagnetTest {
+
+    private CelestialDash plugin;
+    private TearEntityIndex index;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        index = plugin.getTearEntities();
+    }
+
+    @AfterEach
+    void tearDown() {
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void pullsOnlyTearsWithinTheRadiusTowardThePlayer() {
+        PlayerMock player = server().addPlayer();
+        Location origin = player.getLocation();
+        Item near = spawn(origin.clone().add(3.0, 0.0, 0.0), TearUtils.createCelestialTear());
+        spawn(origin.clone().add(12.0, 0.0, 0.0), TearUtils.createCelestialTear());
+        spawn(origin.clone().add(-3.0, 0.0, 0.0), new ItemStack(Material.GHAST_TEAR));
+
+        int pulled = plugin.getTearMagnet().pull(player, plugin.getSettings().tearMagnet());
+
+        assertEquals(1, pulled);
+        assertEquals(2, index.size());
+        assertTrue(near.getVelocity().getX() < 0.0);
+    }
+
+    @Test
+    void dropsDestroyedTearsWhenTheirChunkUnloads() {
+        PlayerMock player = server().addPlayer();
+        Item tear = spawn(player.getLocation(), TearUtils.createCelestialTear());
+        assertEquals(1, index.size());
+
+        // Removed without a pickup, merge or despawn event, as lava or the void would.
+        tear.remove();
+        index.onEntitiesUnload(new EntitiesUnloadEvent(player.getLocation().getChunk(), List.of()));
+
+        assertEquals(0, index.size());
+    }
+
+    /**
+     * Compares a magnet query against the naive scan it replaces: with Tears spread over
+     * a large area, the index examines only the entities around the player yet finds the
+     * same Tears as walking every entity in the world.
+     */
+    @Test
+    void indexedQueryFindsTheSameTearsWhileExaminingFarFewerEntities() {
+        PlayerMock player = server().addPlayer();
+        World world = player.getWorld();
+        Location origin = player.getLocation();
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int tear = 0; tear < 2_000; tear++) {
+            spawn(origin.clone().add(random.nextDouble(-512.0, 512.0), 0.0, random.nextDouble(-512.0, 512.0)),
+                    TearUtils.createCelestialTear());
+        }
+        for (int tear = 0; tear < 20; tear++) {
+            spawn(origin.clone().add(random.nextDouble(-5.0, 5.0), 0.0, random.nextDouble(-5.0, 5.0)),
+                    TearUtils.createCelestialTear());
+        }
+        double radius = plugin.getSettings().tearMagnet().radius();
+
+        Set<UUID> indexed = new HashSet<>();
+        int examined = index.forEachNear(origin, radius, item -> indexed.add(item.getUniqueId()));
+
+        Set<UUID> scanned = new HashSet<>();
+        int scannedEntities = 0;
+        for (Entity entity : world.getEntities()) {
+            scannedEntities++;
+            if (entity instanceof Item item
+                    && TearUtils.isCelestialTear(item.getItemStack())
+                    && item.getLocation().distanceSquared(origin) <= radius * radius) {
+                scanned.add(item.getUniqueId());
+            }
+        }
+
+        assertEquals(scanned, indexed);
+        assertTrue(examined * 20 < scannedEntities, "examined " + examined + " of " + scannedEntities);
+    }
+
+    private Item spawn(Location location, ItemStack stack) {
+        Item item = location.getWorld().dropItem(location, stack);
+        item.setPickupDelay(0);
+        // Test servers may not fire ItemSpawnEvent; tracking twice is harmless.
+        index.track(item);
+        return item;
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}
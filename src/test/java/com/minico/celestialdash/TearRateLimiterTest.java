@@ -0,0 +1,48 @@
+package com.minico.celestialdash;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TearRateLimiterTest {
+
+    @Test
+    void allowsABurstUpToThePerSecondLimitThenRefillsGradually() {
+        TearRateLimiter limiter = new TearRateLimiter();
+        limiter.configure(2, 0, 0L);
+
+        assertTrue(limiter.tryAcquire(0L));
+        assertTrue(limiter.tryAcquire(0L));
+        assertFalse(limiter.tryAcquire(0L));
+
+        assertFalse(limiter.tryAcquire(400L));
+        assertTrue(limiter.tryAcquire(600L));
+        assertFalse(limiter.tryAcquire(600L));
+    }
+
+    @Test
+    void requiresATokenFromBothBuckets() {
+        TearRateLimiter limiter = new TearRateLimiter();
+        limiter.configure(10, 3, 0L);
+
+        for (int tear = 0; tear < 3; tear++) {
+            assertTrue(limiter.tryAcquire(tear * 1_000L));
+        }
+        assertFalse(limiter.tryAcquire(3_000L));
+        assertTrue(limiter.tryAcquire(23_000L));
+    }
+
+    @Test
+    void treatsAZeroLimitAsUnlimited() {
+        TearRateLimiter limiter = new TearRateLimiter();
+        limiter.configure(0, 0, 0L);
+
+        for (int tear = 0; tear < 1_000; tear++) {
+            assertTrue(limiter.tryAcquire(0L));
+        }
+        assertFalse(limiter.isLimited());
+        assertEquals(-1.0, limiter.secondTokens(0L));
+    }
+}
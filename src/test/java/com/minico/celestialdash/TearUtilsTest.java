@@ -5,6 +5,7 @@ import be.seeseemelk.mockbukkit.entity.PlayerMock;
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataContainer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -88,6 +89,38 @@ class TearUtilsTest {
         assertFalse(TearUtils.isCelestialTear(imitation));
     }
 
+    @Test
+    void createsIndependentTearsFromTheSharedPrototype() {
+        TearUtils.initialize(plugin, 0);
+        ItemStack first = TearUtils.createCelestialTear(5);
+        first.setAmount(1);
+        first.setType(Material.DIRT);
+
+        ItemStack second = TearUtils.createCelestialTear();
+        assertEquals(1, second.getAmount());
+        assertTrue(TearUtils.isCelestialTear(second));
+    }
+
+    @Test
+    void countsTheSameTearsThroughEitherDataReader() throws NoSuchMethodException {
+        ItemStack namedGhastTear = new ItemStack(Material.GHAST_TEAR, 7);
+        ItemMeta meta = Objects.requireNonNull(namedGhastTear.getItemMeta());
+        meta.setDisplayName("Not a Celestial Tear");
+        namedGhastTear.setItemMeta(meta);
+        ItemStack[] contents = {
+                TearUtils.createCelestialTear(3), namedGhastTear, null, TearUtils.createCelestialTear(64)
+        };
+        ItemDataView dataView = ItemDataView.of(TearUtilsTest.class.getDeclaredMethod("view", ItemStack.class));
+
+        assertTrue(dataView.usesDataView());
+        assertEquals(67, TearUtils.countTears(contents, dataView));
+        assertEquals(67, TearUtils.countTears(contents, ItemDataView.of(null)));
+    }
+
+    static PersistentDataContainer view(ItemStack stack) {
+        return Objects.requireNonNull(stack.getItemMeta()).getPersistentDataContainer();
+    }
+
     private PlayerMock addPlayer() {
         return Objects.requireNonNull(
                 MockBukkit.getMock(),
@@ -0,0 +1,87 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrailRendererTest {
+
+    private CelestialDash plugin;
+    private TrailRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        // MockBukkit does not implement World#spawnParticle; the renderer's bookkeeping is still exercised.
+        plugin.getConfig().set("trail-particle-count", 0);
+        plugin.getConfig().set("trail-duration-ticks", 10);
+        plugin.getConfig().set("trail-interval-ticks", 2);
+        plugin.loadSettings();
+        renderer = new TrailRenderer(plugin, new ParticleEmitter());
+        renderer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        renderer.stop();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void finishesEveryTrailAfterTheConfiguredDuration() {
+        renderer.add(server().addPlayer());
+        renderer.add(server().addPlayer());
+        assertEquals(2, renderer.activeTrailCount());
+
+        server().getScheduler().performTicks(10L);
+        assertEquals(2, renderer.activeTrailCount());
+
+        server().getScheduler().performTicks(1L);
+        assertEquals(0, renderer.activeTrailCount());
+    }
+
+    @Test
+    void restartsAnActiveTrailInsteadOfAddingASecondOne() {
+        PlayerMock player = server().addPlayer();
+        renderer.add(player);
+        server().getScheduler().performTicks(8L);
+
+        renderer.add(player);
+        assertEquals(1, renderer.activeTrailCount());
+
+        server().getScheduler().performTicks(8L);
+        assertEquals(1, renderer.activeTrailCount());
+    }
+
+    @Test
+    void keepsTheRemainingTrailsPackedAfterARemoval() {
+        PlayerMock first = server().addPlayer();
+        PlayerMock second = server().addPlayer();
+        PlayerMock third = server().addPlayer();
+        renderer.add(first);
+        renderer.add(second);
+        renderer.add(third);
+
+        renderer.remove(first.getUniqueId());
+        assertEquals(2, renderer.activeTrailCount());
+
+        renderer.add(second);
+        renderer.add(third);
+        assertEquals(2, renderer.activeTrailCount());
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}
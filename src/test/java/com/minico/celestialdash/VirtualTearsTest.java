@@ -0,0 +1,103 @@
+package com.minico.celestialdash;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+import org.bukkit.Location;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualTearsTest {
+
+    private CelestialDash plugin;
+    private VirtualTears virtualTears;
+
+    @BeforeEach
+    void setUp() {
+        MockBukkit.mock();
+        plugin = MockBukkit.load(CelestialDash.class);
+        virtualTears = new VirtualTears(plugin, (owner, location) -> null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        virtualTears.stop();
+        MockBukkit.unmock();
+    }
+
+    @Test
+    void onlyItsOwnerCollectsAVirtualTearOnceNearby() {
+        PlayerMock owner = server().addPlayer();
+        PlayerMock other = server().addPlayer();
+        Location drop = owner.getLocation().add(10.0, 0.0, 0.0);
+        virtualTears.drop(owner, drop, 1);
+
+        other.setLocation(drop.clone());
+        server().getScheduler().performTicks(VirtualTears.PICKUP_DELAY_TICKS);
+        assertEquals(1, virtualTears.count(owner.getUniqueId()));
+        assertEquals(0, TearUtils.countTears(other));
+
+        owner.setLocation(drop.clone());
+        server().getScheduler().performTicks(1L);
+
+        assertEquals(0, virtualTears.count(owner.getUniqueId()));
+        assertEquals(1, TearUtils.countTears(owner));
+        assertFalse(virtualTears.isCollecting());
+    }
+
+    @Test
+    void mergesDropsAtTheSameSpot() {
+        PlayerMock owner = server().addPlayer();
+        Location drop = owner.getLocation().add(10.0, 0.0, 0.0);
+
+        virtualTears.drop(owner, drop, 1);
+        virtualTears.drop(owner, drop.clone().add(0.5, 0.0, 0.0), 2);
+
+        assertEquals(3, virtualTears.count(owner.getUniqueId()));
+        assertTrue(virtualTears.isCollecting());
+    }
+
+    @Test
+    void waitsForThePickupDelayBeforeCollectingATearAtItsOwnersFeet() {
+        PlayerMock owner = server().addPlayer();
+        virtualTears.drop(owner, owner.getLocation(), 1);
+
+        server().getScheduler().performTicks(1L);
+        assertEquals(1, virtualTears.count(owner.getUniqueId()));
+
+        server().getScheduler().performTicks(VirtualTears.PICKUP_DELAY_TICKS);
+        assertEquals(0, virtualTears.count(owner.getUniqueId()));
+        assertEquals(1, TearUtils.countTears(owner));
+    }
+
+    @Test
+    void joinsTheNearestTearOnceThePlayerHasTheMaximum() {
+        plugin.getConfig().set("virtual-tears.max-per-player", 2);
+        plugin.loadSettings();
+        PlayerMock owner = server().addPlayer();
+        Location origin = owner.getLocation();
+        virtualTears.drop(owner, origin.clone().add(10.0, 0.0, 0.0), 1);
+        virtualTears.drop(owner, origin.clone().add(30.0, 0.0, 0.0), 1);
+
+        virtualTears.drop(owner, origin.clone().add(27.0, 0.0, 0.0), 2);
+        owner.setLocation(origin.clone().add(30.0, 0.0, 0.0));
+        server().getScheduler().performTicks(VirtualTears.PICKUP_DELAY_TICKS);
+
+        assertEquals(3, TearUtils.countTears(owner));
+        assertEquals(1, virtualTears.count(owner.getUniqueId()));
+    }
+
+    private ServerMock server() {
+        return Objects.requireNonNull(
+                MockBukkit.getMock(),
+                "MockBukkit server must be initialized before using the mock server"
+        );
+    }
+}